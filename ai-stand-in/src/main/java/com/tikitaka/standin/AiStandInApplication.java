@@ -0,0 +1,17 @@
+package com.tikitaka.standin;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Gemini generateContent / OpenAI chat completions 계약을 흉내 내는 로컬 대역 서버입니다.
+ * gemini.api.url / openai.api.url을 이 서버로 지정하면 실제 AI 호출 비용 없이 처리량, 동시 호출 한도, 재시도 동작을 측정할 수 있습니다.
+ */
+@SpringBootApplication
+public class AiStandInApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(AiStandInApplication.class, args);
+	}
+
+}
@@ -0,0 +1,59 @@
+package com.tikitaka.standin.behavior;
+
+/**
+ * 요청 내용의 64비트 해시(FNV-1a)입니다. 같은 상품/이미지로 만든 요청은 항상 같은 값이 되므로
+ * 판정과 지연/오류 주입을 실행 순서와 무관하게 재현할 수 있습니다.
+ */
+public class Fingerprint {
+
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+    private static final int SAMPLE_CHARS = 256;
+
+    private long hash = OFFSET_BASIS;
+
+    public Fingerprint add(CharSequence value) {
+        if (value == null) {
+            return addChar('\u0000');
+        }
+        for (int i = 0; i < value.length(); i++) {
+            addChar(value.charAt(i));
+        }
+        // 항목 경계를 구분하여 ("ab", "c")와 ("a", "bc")가 같은 값이 되지 않도록 합니다.
+        return addChar('\u0001');
+    }
+
+    /**
+     * 큰 값(이미지 base64 등)은 길이와 앞/가운데/끝 일부만 반영합니다. (부하 테스트 중 대역 서버의 CPU 사용 최소화)
+     */
+    public Fingerprint addSampled(CharSequence value) {
+        if (value == null || value.length() <= SAMPLE_CHARS * 3) {
+            return add(value);
+        }
+        int length = value.length();
+        add(Integer.toString(length));
+        add(value.subSequence(0, SAMPLE_CHARS));
+        add(value.subSequence(length / 2 - SAMPLE_CHARS / 2, length / 2 + SAMPLE_CHARS / 2));
+        return add(value.subSequence(length - SAMPLE_CHARS, length));
+    }
+
+    public long value() {
+        return hash;
+    }
+
+    /**
+     * @return 해시를 0 이상 1 미만의 값으로 바꾼 값 (비율 판단용)
+     */
+    public static double toUnitInterval(long hash) {
+        long mixed = hash ^ (hash >>> 33);
+        mixed *= 0xff51afd7ed558ccdL;
+        mixed ^= mixed >>> 33;
+        return (mixed >>> 11) * 0x1.0p-53;
+    }
+
+    private Fingerprint addChar(char c) {
+        hash ^= c;
+        hash *= PRIME;
+        return this;
+    }
+}
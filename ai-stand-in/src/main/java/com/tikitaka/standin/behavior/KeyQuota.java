@@ -0,0 +1,55 @@
+package com.tikitaka.standin.behavior;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+import com.tikitaka.standin.web.StandInErrorException;
+
+/**
+ * API 키별 분당 요청 한도(stand-in.quota.rpm-per-key)와 차단 키(stand-in.quota.forbidden-keys)를 흉내 냅니다.
+ * 한도는 1분 고정 구간으로 계산하며, 넘으면 구간이 끝날 때까지의 시간을 Retry-After로 담아 429를 반환합니다.
+ * (배치 서버의 API 키 풀 분산/격리 동작 확인용)
+ */
+@Component
+public class KeyQuota {
+
+    private static final long WINDOW_MILLIS = 60_000L;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    /**
+     * @throws StandInErrorException 차단 키(403)이거나 분당 한도를 넘은 경우(429)
+     */
+    public void check(String provider, String apiKey, StandInSettings.ProviderSettings settings) {
+        String key = apiKey != null ? apiKey : "";
+        if (settings.forbiddenKeys().contains(key)) {
+            throw new StandInErrorException(provider, 403, "API key is forbidden by the stand-in server.", 0);
+        }
+        if (settings.rpmPerKey() <= 0) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long windowStart = now - now % WINDOW_MILLIS;
+        Window window = windows.compute(provider + ":" + key,
+                (k, current) -> current == null || current.start != windowStart ? new Window(windowStart) : current);
+        if (window.count.incrementAndGet() > settings.rpmPerKey()) {
+            long retryAfterSeconds = Math.max(1, (windowStart + WINDOW_MILLIS - now + 999) / 1000);
+            throw new StandInErrorException(provider, 429,
+                    "Quota exceeded: " + settings.rpmPerKey() + " requests per minute per key.", retryAfterSeconds);
+        }
+    }
+
+    private static final class Window {
+
+        private final long start;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private Window(long start) {
+            this.start = start;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.tikitaka.standin.behavior;
+
+import java.util.SplittableRandom;
+
+/**
+ * 응답 지연 분포입니다.
+ * - fixed    : 항상 median-ms
+ * - uniform  : min-ms ~ max-ms 균등 분포
+ * - lognormal: 중앙값 median-ms, 99분위 p99-ms인 로그정규 분포 (실제 AI API처럼 긴 꼬리), min-ms ~ max-ms로 제한
+ */
+public class LatencyDistribution {
+
+    // 표준정규분포의 99분위 z값
+    private static final double Z_P99 = 2.3263478740408408;
+
+    private final String type;
+    private final long minMillis;
+    private final long medianMillis;
+    private final long maxMillis;
+    private final double mu;
+    private final double sigma;
+
+    public LatencyDistribution(String type, long minMillis, long medianMillis, long p99Millis, long maxMillis) {
+        this.type = type.toLowerCase();
+        this.minMillis = Math.max(0, minMillis);
+        this.maxMillis = Math.max(this.minMillis, maxMillis);
+        this.medianMillis = Math.min(Math.max(this.minMillis, medianMillis), this.maxMillis);
+        this.mu = Math.log(Math.max(1, this.medianMillis));
+        this.sigma = Math.max(0d, (Math.log(Math.max(this.medianMillis, p99Millis)) - mu) / Z_P99);
+        if (!"fixed".equals(this.type) && !"uniform".equals(this.type) && !"lognormal".equals(this.type)) {
+            throw new IllegalArgumentException("지원하지 않는 지연 분포입니다: " + type + " (fixed, uniform, lognormal)");
+        }
+    }
+
+    /**
+     * @return 지연 시간(ms)
+     */
+    public long sampleMillis(SplittableRandom random) {
+        return switch (type) {
+            case "fixed" -> medianMillis;
+            case "uniform" -> minMillis + (long) (random.nextDouble() * (maxMillis - minMillis + 1));
+            default -> clamp(Math.round(Math.exp(mu + sigma * random.nextGaussian())));
+        };
+    }
+
+    private long clamp(long millis) {
+        return Math.min(Math.max(millis, minMillis), maxMillis);
+    }
+
+    @Override
+    public String toString() {
+        return switch (type) {
+            case "fixed" -> "fixed(" + medianMillis + "ms)";
+            case "uniform" -> "uniform(" + minMillis + "~" + maxMillis + "ms)";
+            default -> "lognormal(median " + medianMillis + "ms, sigma " + String.format("%.2f", sigma) + ", " + minMillis + "~" + maxMillis + "ms)";
+        };
+    }
+}
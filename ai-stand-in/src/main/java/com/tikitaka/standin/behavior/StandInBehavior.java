@@ -0,0 +1,113 @@
+package com.tikitaka.standin.behavior;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.tikitaka.standin.web.StandInErrorException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * 요청 하나에 대해 응답 지연과 주입할 오류(429, 5xx, 무응답, 안전 정책 차단)를 정합니다.
+ * 결과는 (stand-in.seed, 요청 내용 해시, 같은 내용의 몇 번째 요청인지)로 정해지므로 동시 실행 순서와 무관하게 재현되며,
+ * 같은 요청의 재시도는 새로 추첨하여 오류 후 재시도가 성공하는 흐름도 확인할 수 있습니다.
+ * 제공자/결과별 응답 수는 stand-in.responses (provider, result) 메트릭으로 노출됩니다.
+ */
+@Component
+public class StandInBehavior {
+
+    // 요청 내용별 시도 횟수를 기록하는 최대 항목 수 (넘으면 가장 오래 요청이 없었던 내용부터 제거)
+    private static final int MAX_TRACKED_REQUESTS = 100_000;
+
+    private final StandInSettings settings;
+    private final KeyQuota keyQuota;
+    private final MeterRegistry meterRegistry;
+    private final long seed;
+
+    // 접근 순서 LinkedHashMap: 재시도 중인 요청의 횟수는 유지하고 오래된 요청만 제거합니다. (this로 동기화)
+    private final Map<Long, Integer> attempts = new LinkedHashMap<>(1024, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Integer> eldest) {
+            return size() > MAX_TRACKED_REQUESTS;
+        }
+    };
+
+    public StandInBehavior(StandInSettings settings, KeyQuota keyQuota, MeterRegistry meterRegistry,
+                           @Value("${stand-in.seed:0}") long seed) {
+        this.settings = settings;
+        this.keyQuota = keyQuota;
+        this.meterRegistry = meterRegistry;
+        this.seed = seed;
+    }
+
+    /**
+     * 키 한도를 확인하고 지연 시간이 지난 뒤 응답 유형을 전달합니다.
+     * 403/429/5xx/무응답은 StandInErrorException으로 끝나며, 정상 응답은 SUCCESS 또는 SAFETY_BLOCK입니다.
+     * @param fingerprint 요청 내용 해시
+     * @param imageCount 첨부 이미지 수 (이미지당 추가 지연)
+     */
+    public Mono<Outcome> respond(String provider, String apiKey, long fingerprint, int imageCount) {
+        return Mono.defer(() -> {
+            StandInSettings.ProviderSettings providerSettings = settings.settingsFor(provider);
+            try {
+                keyQuota.check(provider, apiKey, providerSettings);
+            } catch (StandInErrorException e) {
+                count(provider, e.getStatus() == 403 ? "forbidden" : "quota_exceeded");
+                return Mono.error(e);
+            }
+
+            SplittableRandom random = new SplittableRandom(
+                    seed * 0x9E3779B97F4A7C15L ^ fingerprint ^ nextAttempt(fingerprint) * 0xBF58476D1CE4E5B9L);
+            double draw = random.nextDouble();
+            long delayMillis = providerSettings.latency().sampleMillis(random) + providerSettings.perImageMillis() * imageCount;
+
+            // 비율을 누적하여 하나의 추첨값으로 결과를 고릅니다.
+            double threshold = providerSettings.rateLimitedRate();
+            if (draw < threshold) {
+                // 한도 초과는 실제 API처럼 지연 없이 바로 응답합니다.
+                count(provider, "rate_limited");
+                return Mono.error(new StandInErrorException(provider, 429, "Resource has been exhausted (stand-in).",
+                        providerSettings.retryAfterSeconds()));
+            }
+            threshold += providerSettings.serverErrorRate();
+            if (draw < threshold) {
+                count(provider, "server_error");
+                return delayedError(delayMillis, new StandInErrorException(provider, providerSettings.serverErrorStatus(),
+                        "The service is currently unavailable (stand-in).", 0));
+            }
+            threshold += providerSettings.hangRate();
+            if (draw < threshold) {
+                count(provider, "hang");
+                return delayedError(providerSettings.hangMillis(), new StandInErrorException(provider, 504,
+                        "Deadline exceeded (stand-in).", 0));
+            }
+            threshold += providerSettings.safetyBlockRate();
+            Outcome outcome = draw < threshold ? Outcome.SAFETY_BLOCK : Outcome.SUCCESS;
+            count(provider, outcome == Outcome.SAFETY_BLOCK ? "safety_block" : "success");
+            return Mono.delay(Duration.ofMillis(delayMillis)).thenReturn(outcome);
+        });
+    }
+
+    private Mono<Outcome> delayedError(long delayMillis, StandInErrorException error) {
+        return Mono.delay(Duration.ofMillis(delayMillis)).then(Mono.error(error));
+    }
+
+    private synchronized int nextAttempt(long fingerprint) {
+        return attempts.merge(fingerprint, 1, Integer::sum) - 1;
+    }
+
+    private void count(String provider, String result) {
+        meterRegistry.counter("stand-in.responses", "provider", provider, "result", result).increment();
+    }
+
+    public enum Outcome {
+        SUCCESS,
+        SAFETY_BLOCK
+    }
+}
@@ -0,0 +1,97 @@
+package com.tikitaka.standin.behavior;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 제공자(gemini, openai)별 대역 동작 설정입니다.
+ * 공통 설정 stand-in.{항목}을 기본으로 하고, 제공자별로 다르게 하려면 stand-in.{provider}.{항목}으로 지정합니다.
+ * (예: stand-in.openai.latency.median-ms=1500)
+ */
+@Slf4j
+@Component
+public class StandInSettings {
+
+    public static final String GEMINI = "gemini";
+    public static final String OPENAI = "openai";
+
+    private final Environment environment;
+    private final Map<String, ProviderSettings> settings;
+
+    public StandInSettings(Environment environment) {
+        this.environment = environment;
+        this.settings = Map.of(GEMINI, load(GEMINI), OPENAI, load(OPENAI));
+    }
+
+    public ProviderSettings settingsFor(String provider) {
+        return settings.get(provider);
+    }
+
+    private ProviderSettings load(String provider) {
+        LatencyDistribution latency = new LatencyDistribution(
+                property(provider, "latency.distribution", String.class, "lognormal"),
+                property(provider, "latency.min-ms", Long.class, 100L),
+                property(provider, "latency.median-ms", Long.class, 800L),
+                property(provider, "latency.p99-ms", Long.class, 3_000L),
+                property(provider, "latency.max-ms", Long.class, 30_000L));
+        Set<String> forbiddenKeys = Arrays.stream(property(provider, "quota.forbidden-keys", String.class, "").split(","))
+                .map(String::trim)
+                .filter(key -> !key.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+
+        ProviderSettings providerSettings = new ProviderSettings(
+                latency,
+                property(provider, "latency.per-image-ms", Long.class, 0L),
+                rate(property(provider, "fault.rate-limited-rate", Double.class, 0d)),
+                rate(property(provider, "fault.server-error-rate", Double.class, 0d)),
+                property(provider, "fault.server-error-status", Integer.class, 503),
+                rate(property(provider, "fault.safety-block-rate", Double.class, 0d)),
+                rate(property(provider, "fault.hang-rate", Double.class, 0d)),
+                property(provider, "fault.hang-ms", Long.class, 600_000L),
+                property(provider, "fault.retry-after-seconds", Long.class, 0L),
+                property(provider, "quota.rpm-per-key", Integer.class, 0),
+                forbiddenKeys,
+                Math.max(1, property(provider, "stream.chunk-chars", Integer.class, 4)),
+                Math.max(0, property(provider, "stream.chunk-interval-ms", Long.class, 30L)));
+        log.info("[{}] 대역 설정 - 지연: {}, 이미지당 추가 지연: {}ms, 429: {}, 5xx: {}, 안전 차단: {}, 무응답: {}, 키당 RPM: {}",
+                provider, latency, providerSettings.perImageMillis(), providerSettings.rateLimitedRate(),
+                providerSettings.serverErrorRate(), providerSettings.safetyBlockRate(), providerSettings.hangRate(),
+                providerSettings.rpmPerKey());
+        return providerSettings;
+    }
+
+    private double rate(double value) {
+        return Math.min(Math.max(value, 0d), 1d);
+    }
+
+    private <T> T property(String provider, String key, Class<T> type, T defaultValue) {
+        T common = environment.getProperty("stand-in." + key, type, defaultValue);
+        return environment.getProperty("stand-in." + provider + "." + key, type, common);
+    }
+
+    /**
+     * @param perImageMillis 첨부 이미지 1장당 추가 지연(ms)
+     * @param rateLimitedRate 429를 반환할 비율 (0~1)
+     * @param serverErrorRate 5xx(serverErrorStatus)를 반환할 비율
+     * @param safetyBlockRate 안전 정책 차단 응답을 반환할 비율
+     * @param hangRate hangMillis 동안 응답하지 않을 비율 (클라이언트 응답 시간 제한 확인용)
+     * @param retryAfterSeconds 429 응답의 Retry-After(초), 0이면 보내지 않음
+     * @param rpmPerKey API 키당 분당 요청 한도, 0이면 제한 없음 (넘으면 429)
+     * @param forbiddenKeys 403을 반환할 API 키
+     * @param streamChunkChars 스트리밍 응답 청크 하나에 담을 글자 수
+     * @param streamChunkIntervalMillis 스트리밍 청크 사이 간격(ms)
+     */
+    public record ProviderSettings(LatencyDistribution latency, long perImageMillis,
+                                   double rateLimitedRate, double serverErrorRate, int serverErrorStatus,
+                                   double safetyBlockRate, double hangRate, long hangMillis, long retryAfterSeconds,
+                                   int rpmPerKey, Set<String> forbiddenKeys,
+                                   int streamChunkChars, long streamChunkIntervalMillis) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.tikitaka.standin.behavior;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검수 판정("승인" 또는 "반려:금칙어:사유")을 정합니다.
+ * 1. 판정 스크립트(stand-in.verdict.script)의 규칙을 위에서부터 확인하여, 상품 텍스트가 정규식과 일치하는 첫 규칙의 응답을 사용합니다.
+ *    형식: 정규식 => 응답  (# 으로 시작하는 줄은 주석)
+ * 2. 일치하는 규칙이 없으면 상품 텍스트 해시로 stand-in.verdict.reject-rate 비율만큼 반려합니다. (같은 상품은 항상 같은 판정)
+ */
+@Slf4j
+@Component
+public class VerdictScript {
+
+    private static final String RULE_SEPARATOR = "=>";
+
+    private final List<Rule> rules;
+    private final double rejectRate;
+    private final String approveResponse;
+    private final String rejectResponse;
+
+    public VerdictScript(ResourceLoader resourceLoader,
+                         @Value("${stand-in.verdict.script:classpath:verdict-script.txt}") String scriptLocation,
+                         @Value("${stand-in.verdict.reject-rate:0.1}") double rejectRate,
+                         @Value("${stand-in.verdict.approve-response:승인}") String approveResponse,
+                         @Value("${stand-in.verdict.reject-response:반려:스탠드인:부하 테스트용 반려}") String rejectResponse) {
+        this.rules = loadRules(resourceLoader.getResource(scriptLocation));
+        this.rejectRate = Math.min(Math.max(rejectRate, 0d), 1d);
+        this.approveResponse = approveResponse;
+        this.rejectResponse = rejectResponse;
+        log.info("판정 스크립트 로드 - {} (규칙 {}개), 기본 반려 비율: {}", scriptLocation, rules.size(), this.rejectRate);
+    }
+
+    /**
+     * @param goodsText 상품 하나의 검수 요청 텍스트
+     * @return 판정 문자열
+     */
+    public String verdictFor(String goodsText) {
+        for (Rule rule : rules) {
+            if (rule.pattern().matcher(goodsText).find()) {
+                return rule.response();
+            }
+        }
+        double draw = Fingerprint.toUnitInterval(new Fingerprint().add(goodsText).value());
+        return draw < rejectRate ? rejectResponse : approveResponse;
+    }
+
+    private List<Rule> loadRules(Resource script) {
+        List<Rule> loaded = new ArrayList<>();
+        if (!script.exists()) {
+            log.warn("판정 스크립트 파일이 없어 규칙 없이 실행합니다: {}", script.getDescription());
+            return loaded;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(script.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                int separator = trimmed.indexOf(RULE_SEPARATOR);
+                if (separator <= 0) {
+                    throw new IllegalStateException("판정 스크립트 " + lineNumber + "번째 줄 형식 오류 (정규식 => 응답): " + line);
+                }
+                loaded.add(new Rule(Pattern.compile(trimmed.substring(0, separator).trim()),
+                        trimmed.substring(separator + RULE_SEPARATOR.length()).trim()));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("판정 스크립트 로드 실패: " + script.getDescription(), e);
+        }
+        return List.copyOf(loaded);
+    }
+
+    private record Rule(Pattern pattern, String response) {
+    }
+}
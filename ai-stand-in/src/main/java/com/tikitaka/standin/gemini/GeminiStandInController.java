@@ -0,0 +1,182 @@
+package com.tikitaka.standin.gemini;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.tikitaka.standin.behavior.Fingerprint;
+import com.tikitaka.standin.behavior.StandInBehavior;
+import com.tikitaka.standin.behavior.StandInSettings;
+import com.tikitaka.standin.behavior.VerdictScript;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Gemini generateContent / streamGenerateContent(SSE) 대역입니다. (GeminiInspectBatchServiceImpl이 보내는 요청 형식)
+ * - 단건 검수: 판정 한 줄("승인" 또는 "반려:금칙어:사유")을 후보 텍스트로 반환
+ * - 묶음 검수(responseMimeType=application/json, 상품마다 "=== 상품코드: ... ===" 텍스트): 상품코드별 판정 JSON 배열 반환
+ * - 안전 정책 차단: 후보 없이 promptFeedback.blockReason=SAFETY 반환
+ * 토큰 사용량(usageMetadata)은 텍스트 2글자당 1토큰, 이미지 1장당 258토큰으로 추정합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class GeminiStandInController {
+
+    private static final Pattern GOODS_CODE_HEADER = Pattern.compile("^=== 상품코드: (.+?) ===");
+    private static final int TOKENS_PER_IMAGE = 258;
+
+    private final StandInBehavior behavior;
+    private final StandInSettings settings;
+    private final VerdictScript verdictScript;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping(path = "/{version}/models/{model}:generateContent", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ObjectNode> generateContent(@RequestParam(name = "key", required = false) String apiKey,
+                                            @RequestBody JsonNode request) {
+        InspectionRequest inspection = InspectionRequest.from(request);
+        return behavior.respond(StandInSettings.GEMINI, apiKey, inspection.fingerprint(), inspection.imageCount())
+                .map(outcome -> {
+                    if (outcome == StandInBehavior.Outcome.SAFETY_BLOCK) {
+                        return blockedResponse(inspection);
+                    }
+                    String answer = answer(inspection);
+                    return response(inspection, answer, answer);
+                });
+    }
+
+    /**
+     * 판정을 stream.chunk-chars 글자씩 stream.chunk-interval-ms 간격으로 나누어 보냅니다.
+     * 클라이언트가 판정을 확인하고 수신을 중단(취소)하면 남은 청크는 보내지 않습니다.
+     */
+    @PostMapping(path = "/{version}/models/{model}:streamGenerateContent", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<ObjectNode>> streamGenerateContent(@RequestParam(name = "key", required = false) String apiKey,
+                                                                   @RequestBody JsonNode request) {
+        InspectionRequest inspection = InspectionRequest.from(request);
+        StandInSettings.ProviderSettings providerSettings = settings.settingsFor(StandInSettings.GEMINI);
+        return behavior.respond(StandInSettings.GEMINI, apiKey, inspection.fingerprint(), inspection.imageCount())
+                .flatMapMany(outcome -> {
+                    if (outcome == StandInBehavior.Outcome.SAFETY_BLOCK) {
+                        return Flux.just(blockedResponse(inspection));
+                    }
+                    String answer = answer(inspection);
+                    List<String> chunks = split(answer, providerSettings.streamChunkChars());
+                    Flux<Integer> indexes = Flux.range(0, chunks.size());
+                    if (providerSettings.streamChunkIntervalMillis() > 0) {
+                        indexes = indexes.delayElements(Duration.ofMillis(providerSettings.streamChunkIntervalMillis()));
+                    }
+                    return indexes.map(index -> response(inspection, chunks.get(index), answer));
+                })
+                .map(chunk -> ServerSentEvent.builder(chunk).build());
+    }
+
+    private String answer(InspectionRequest inspection) {
+        if (!inspection.packed()) {
+            return verdictScript.verdictFor(inspection.text());
+        }
+        ArrayNode verdicts = objectMapper.createArrayNode();
+        for (GoodsSegment goods : inspection.goods()) {
+            verdicts.addObject()
+                    .put("goodsCode", goods.goodsCode())
+                    .put("result", verdictScript.verdictFor(goods.text()));
+        }
+        return verdicts.toString();
+    }
+
+    /**
+     * @param text 이 응답(청크)에 담을 텍스트
+     * @param answer 전체 응답 텍스트 (출력 토큰 계산용)
+     */
+    private ObjectNode response(InspectionRequest inspection, String text, String answer) {
+        ObjectNode response = objectMapper.createObjectNode();
+        ObjectNode candidate = response.putArray("candidates").addObject();
+        ObjectNode content = candidate.putObject("content");
+        content.putArray("parts").addObject().put("text", text);
+        content.put("role", "model");
+        candidate.put("finishReason", "STOP");
+        putUsage(response, inspection, Math.max(1, answer.length() / 2));
+        return response;
+    }
+
+    private ObjectNode blockedResponse(InspectionRequest inspection) {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.putObject("promptFeedback").put("blockReason", "SAFETY");
+        putUsage(response, inspection, 0);
+        return response;
+    }
+
+    private void putUsage(ObjectNode response, InspectionRequest inspection, int outputTokens) {
+        int textTokens = inspection.text().length() / 2;
+        int imageTokens = inspection.imageCount() * TOKENS_PER_IMAGE;
+        ObjectNode usage = response.putObject("usageMetadata");
+        usage.put("promptTokenCount", textTokens + imageTokens);
+        usage.put("candidatesTokenCount", outputTokens);
+        usage.put("totalTokenCount", textTokens + imageTokens + outputTokens);
+        ArrayNode details = usage.putArray("promptTokensDetails");
+        details.addObject().put("modality", "TEXT").put("tokenCount", textTokens);
+        if (imageTokens > 0) {
+            details.addObject().put("modality", "IMAGE").put("tokenCount", imageTokens);
+        }
+    }
+
+    private List<String> split(String text, int chunkChars) {
+        List<String> chunks = new ArrayList<>();
+        for (int start = 0; start < text.length(); start += chunkChars) {
+            chunks.add(text.substring(start, Math.min(text.length(), start + chunkChars)));
+        }
+        return chunks;
+    }
+
+    /**
+     * @param text 요청의 모든 텍스트
+     * @param goods 묶음 검수의 상품별 텍스트 (단건 검수는 비어 있음)
+     * @param packed 묶음 검수 요청 여부
+     */
+    private record InspectionRequest(String text, List<GoodsSegment> goods, int imageCount, long fingerprint, boolean packed) {
+
+        static InspectionRequest from(JsonNode request) {
+            Fingerprint fingerprint = new Fingerprint().add(request.path("cachedContent").asText(""));
+            StringBuilder text = new StringBuilder();
+            List<GoodsSegment> goods = new ArrayList<>();
+            int imageCount = 0;
+            for (JsonNode content : request.path("contents")) {
+                for (JsonNode part : content.path("parts")) {
+                    if (part.hasNonNull("text")) {
+                        String partText = part.get("text").asText();
+                        fingerprint.add(partText);
+                        text.append(partText).append('\n');
+                        Matcher header = GOODS_CODE_HEADER.matcher(partText);
+                        if (header.find()) {
+                            goods.add(new GoodsSegment(header.group(1).trim(), partText));
+                        }
+                    } else if (part.has("inlineData")) {
+                        imageCount++;
+                        fingerprint.addSampled(part.path("inlineData").path("data").asText());
+                    } else if (part.has("fileData")) {
+                        imageCount++;
+                        fingerprint.add(part.path("fileData").path("fileUri").asText());
+                    }
+                }
+            }
+            boolean jsonResponse = "application/json".equals(request.path("generationConfig").path("responseMimeType").asText(null));
+            return new InspectionRequest(text.toString(), goods, imageCount, fingerprint.value(), jsonResponse && !goods.isEmpty());
+        }
+    }
+
+    private record GoodsSegment(String goodsCode, String text) {
+    }
+}
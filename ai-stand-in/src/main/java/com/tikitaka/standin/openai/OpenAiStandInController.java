@@ -0,0 +1,105 @@
+package com.tikitaka.standin.openai;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.tikitaka.standin.behavior.Fingerprint;
+import com.tikitaka.standin.behavior.StandInBehavior;
+import com.tikitaka.standin.behavior.StandInSettings;
+import com.tikitaka.standin.behavior.VerdictScript;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * OpenAI chat completions 대역입니다. (ChatGPTInspectBatchServiceImpl이 보내는 요청 형식)
+ * - 판정 한 줄("승인" 또는 "반려:금칙어:사유")을 choices[0].message.content로 반환
+ * - 안전 정책 차단: content 없이 refusal과 finish_reason=content_filter 반환
+ * 토큰 사용량(usage)은 텍스트 2글자당 1토큰, 이미지 1장당 765토큰(high detail 512px 타일 기준)으로 추정합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class OpenAiStandInController {
+
+    private static final int TOKENS_PER_IMAGE = 765;
+
+    private final StandInBehavior behavior;
+    private final VerdictScript verdictScript;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @PostMapping(path = "/v1/chat/completions", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ObjectNode> chatCompletions(@RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                            @RequestBody JsonNode request) {
+        Fingerprint fingerprint = new Fingerprint();
+        StringBuilder text = new StringBuilder();
+        int imageCount = 0;
+        for (JsonNode message : request.path("messages")) {
+            JsonNode content = message.path("content");
+            if (content.isTextual()) {
+                fingerprint.add(content.asText());
+                text.append(content.asText()).append('\n');
+                continue;
+            }
+            for (JsonNode item : content) {
+                if ("image_url".equals(item.path("type").asText())) {
+                    imageCount++;
+                    fingerprint.addSampled(item.path("image_url").path("url").asText());
+                } else if (item.hasNonNull("text")) {
+                    fingerprint.add(item.get("text").asText());
+                    text.append(item.get("text").asText()).append('\n');
+                }
+            }
+        }
+
+        String apiKey = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7).trim() : null;
+        String model = request.path("model").asText("stand-in");
+        String goodsText = text.toString();
+        int promptTokens = goodsText.length() / 2 + imageCount * TOKENS_PER_IMAGE;
+        return behavior.respond(StandInSettings.OPENAI, apiKey, fingerprint.value(), imageCount)
+                .map(outcome -> outcome == StandInBehavior.Outcome.SAFETY_BLOCK
+                        ? response(model, null, promptTokens)
+                        : response(model, verdictScript.verdictFor(goodsText), promptTokens));
+    }
+
+    /**
+     * @param verdict 판정, null이면 안전 정책 차단 응답
+     */
+    private ObjectNode response(String model, String verdict, int promptTokens) {
+        int completionTokens = verdict != null ? Math.max(1, verdict.length() / 2) : 0;
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("id", "chatcmpl-stand-in-" + sequence.incrementAndGet());
+        response.put("object", "chat.completion");
+        response.put("created", System.currentTimeMillis() / 1000);
+        response.put("model", model);
+
+        ObjectNode choice = response.putArray("choices").addObject();
+        choice.put("index", 0);
+        ObjectNode message = choice.putObject("message");
+        message.put("role", "assistant");
+        if (verdict != null) {
+            message.put("content", verdict);
+            choice.put("finish_reason", "stop");
+        } else {
+            message.putNull("content");
+            message.put("refusal", "I'm sorry, I can't assist with that request. (stand-in)");
+            choice.put("finish_reason", "content_filter");
+        }
+
+        ObjectNode usage = response.putObject("usage");
+        usage.put("prompt_tokens", promptTokens);
+        usage.put("completion_tokens", completionTokens);
+        usage.put("total_tokens", promptTokens + completionTokens);
+        return response;
+    }
+}
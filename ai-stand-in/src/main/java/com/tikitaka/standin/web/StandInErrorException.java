@@ -0,0 +1,22 @@
+package com.tikitaka.standin.web;
+
+import lombok.Getter;
+
+/**
+ * 대역 서버가 의도적으로 반환하는 오류 응답(403/429/5xx)입니다.
+ * StandInExceptionHandler가 제공자별 오류 본문 형식으로 변환합니다.
+ */
+@Getter
+public class StandInErrorException extends RuntimeException {
+
+    private final String provider;
+    private final int status;
+    private final long retryAfterSeconds; // 0이면 Retry-After 헤더를 보내지 않음
+
+    public StandInErrorException(String provider, int status, String message, long retryAfterSeconds) {
+        super(message);
+        this.provider = provider;
+        this.status = status;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
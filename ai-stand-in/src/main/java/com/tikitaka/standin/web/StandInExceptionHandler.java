@@ -0,0 +1,64 @@
+package com.tikitaka.standin.web;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.tikitaka.standin.behavior.StandInSettings;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주입한 오류를 제공자별 오류 응답 형식으로 반환합니다.
+ * - Gemini: {"error": {"code": 429, "message": "...", "status": "RESOURCE_EXHAUSTED"}}
+ * - OpenAI: {"error": {"message": "...", "type": "rate_limit_exceeded", "code": null}}
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class StandInExceptionHandler {
+
+    private final ObjectMapper objectMapper;
+
+    @ExceptionHandler(StandInErrorException.class)
+    public ResponseEntity<ObjectNode> handle(StandInErrorException e) {
+        ObjectNode body = objectMapper.createObjectNode();
+        ObjectNode error = body.putObject("error");
+        if (StandInSettings.OPENAI.equals(e.getProvider())) {
+            error.put("message", e.getMessage());
+            error.put("type", openAiType(e.getStatus()));
+            error.putNull("code");
+        } else {
+            error.put("code", e.getStatus());
+            error.put("message", e.getMessage());
+            error.put("status", geminiStatus(e.getStatus()));
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(e.getStatus()).contentType(MediaType.APPLICATION_JSON);
+        if (e.getRetryAfterSeconds() > 0) {
+            response.header(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSeconds()));
+        }
+        return response.body(body);
+    }
+
+    private String geminiStatus(int status) {
+        return switch (status) {
+            case 403 -> "PERMISSION_DENIED";
+            case 429 -> "RESOURCE_EXHAUSTED";
+            case 503 -> "UNAVAILABLE";
+            case 504 -> "DEADLINE_EXCEEDED";
+            default -> "INTERNAL";
+        };
+    }
+
+    private String openAiType(int status) {
+        return switch (status) {
+            case 403 -> "permission_denied";
+            case 429 -> "rate_limit_exceeded";
+            default -> "server_error";
+        };
+    }
+}
@@ -21,6 +21,12 @@ public class BatchInspectionScheduler {
     private String batchSizePerMinute;
 
     private final GoodsBatchService goodsBatchService;
+    private final GoodsBatchLeaseManager leaseManager;
+    private final GoodsInspectionDispatcher inspectionDispatcher;
+    private final ReactiveInspectionDispatcher reactiveInspectionDispatcher;
+    private final BulkInspectionDispatcher bulkInspectionDispatcher;
+    private final InspectionResultCache inspectionResultCache;
+    private final InspectionTokenUsageRecorder tokenUsageRecorder;
     
     // 3시부터 배치서버 동작, 매일 3-5시 사이 15분마다 실행
     @Scheduled(cron = "0 */15 3-5 * * *")
@@ -57,6 +63,13 @@ public class BatchInspectionScheduler {
     // 1분마다 실행 (cron = "초 분 시 일 월 요일")
 	@Scheduled(cron = "0 */1 * * * *")
     public void triggerPendingBatchRequests() {
+		if (inspectionDispatcher.isContinuousMode() || reactiveInspectionDispatcher.isReactiveMode()
+				|| bulkInspectionDispatcher.isBulkMode()) {
+			// 연속(reactive, bulk) 디스패처가 검수를 수행하므로, 1분마다 완료된 결과만 모아서 전송합니다.
+			goodsBatchService.flushBatchResults();
+			return;
+		}
+		
 		int batchSize = 300;
 		try {
 			batchSize = Integer.parseInt(batchSizePerMinute);
@@ -74,10 +87,24 @@ public class BatchInspectionScheduler {
 	}
     
 
+    // 처리 중인 요청의 임대(lease) 연장 (기본 1분마다)
+    @Scheduled(fixedDelayString = "${batch.lease.heartbeat-interval-ms:60000}")
+    public void heartbeatProcessingLeases() {
+        leaseManager.heartbeat();
+    }
+
+    // 임대가 만료된 PROCESSING 요청을 PENDING으로 회수 (기본 1분마다)
+    @Scheduled(fixedDelayString = "${batch.lease.reaper-interval-ms:60000}", initialDelayString = "${batch.lease.reaper-interval-ms:60000}")
+    public void reapExpiredLeases() {
+        leaseManager.reapExpiredLeases();
+    }
+
     // 매일 0시0분 실행 (cron = "초 분 시 일 월 요일")
     @Scheduled(cron = "0 0 0 * * *")
     public void removeOldRecord() {
     	goodsBatchService.removeOldRecord(3);
+    	inspectionResultCache.purgeExpired();
+    	tokenUsageRecorder.purgeExpired();
     }
 
     // 1분마다 실행 (cron = "초 분 시 일 월 요일")
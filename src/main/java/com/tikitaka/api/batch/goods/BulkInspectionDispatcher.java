@@ -0,0 +1,58 @@
+package com.tikitaka.api.batch.goods;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 검수 요청을 AI 제공자의 일괄 처리(Batch) 작업으로 묶어 처리하는 디스패처입니다. (batch.dispatcher.mode=bulk, 제공자: batch.bulk.provider)
+ * 주기마다 끝난 작업의 결과를 반영하고, 진행 중인 작업이 max-active-jobs 미만이면 PENDING 요청을 새 작업으로 제출합니다.
+ * 제출된 요청은 'SUBMITTED' 상태와 작업 이름(ai_batch_name)으로 DB에 남으므로, 노드가 재시작되어도 결과를 이어서 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkInspectionDispatcher {
+
+    @Value("${batch.dispatcher.mode:continuous}")
+    private String dispatcherMode;
+
+    // 작업 1개에 담을 최대 요청 건수
+    @Value("${batch.bulk.max-requests-per-job:500}")
+    private int maxRequestsPerJob;
+
+    // 동시에 결과를 기다릴 최대 작업 수
+    @Value("${batch.bulk.max-active-jobs:10}")
+    private int maxActiveJobs;
+
+    private final GoodsBatchService goodsBatchService;
+
+    public boolean isBulkMode() {
+        return "bulk".equalsIgnoreCase(dispatcherMode);
+    }
+
+    // 작업 상태 확인 및 신규 제출 (기본 1분마다)
+    @Scheduled(fixedDelayString = "${batch.bulk.poll-interval-ms:60000}")
+    public void dispatch() {
+        if (!isBulkMode()) {
+            return;
+        }
+
+        int activeJobs = goodsBatchService.collectBulkInspections();
+
+        // s3에서 데이터를 정확히 받은 시점부터 제출
+        if (!goodsBatchService.isInspectionReady()) {
+            return;
+        }
+        while (activeJobs < maxActiveJobs) {
+            if (goodsBatchService.submitBulkInspection(Math.max(1, maxRequestsPerJob)) == 0) {
+                break;
+            }
+            activeJobs++;
+        }
+        log.debug("일괄 처리 진행 중인 작업: {}개", activeJobs);
+    }
+}
@@ -6,13 +6,16 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 
+import com.tikitaka.api.batch.goods.dto.GoodsBatchStatusUpdate;
 import com.tikitaka.api.batch.goods.entity.GoodsBatchRequest;
 import com.tikitaka.api.batch.inspection.dto.InspectionResultReq;
 
 import ch.qos.logback.core.util.StringUtil;
 
 import java.sql.PreparedStatement;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 
@@ -100,9 +103,68 @@ public class DBGoodsBatchRequestRepository implements GoodsBatchRequestRepositor
     }
 
     @Override
-    public void updateFinalStatus(Long requestId, String status, String inspectionStatus, String forbiddenWord, String errorMessage) {
-        String sql = "UPDATE goods_batch_request SET status = ?, forbidden_word = ?, inspection_status = ?, error_message = ?, updated_at = NOW() WHERE request_id = ?";
-        jdbcTemplate.update(sql, status, forbiddenWord, inspectionStatus, errorMessage, requestId);
+    public List<GoodsBatchRequest> claimPendingRequests(int limit, String leaseOwner, int leaseSeconds) {
+        // 조회와 상태 변경을 하나의 문장으로 처리하여 노드 간 중복 선점을 방지합니다.
+        String sql = "UPDATE /* DbGoodsBatchRequestRepository.claimPendingRequests */ goods_batch_request"
+                   + "   SET status = 'PROCESSING', updated_at = NOW()"
+                   + "     , lease_owner = ?, lease_expires_at = NOW() + make_interval(secs => ?)"
+                   + " WHERE request_id IN (SELECT request_id"
+                   + "                        FROM goods_batch_request"
+                   + "                       WHERE status = 'PENDING'"
+                   + "                         AND (next_attempt_at IS NULL OR next_attempt_at <= NOW())"
+                   + "                       ORDER BY goods_code ASC"
+                   + "                       LIMIT ?"
+                   + "                         FOR UPDATE SKIP LOCKED)"
+                   + " RETURNING *";
+        return jdbcTemplate.query(sql, rowMapper, leaseOwner, leaseSeconds, limit);
+    }
+
+    @Override
+    public void extendLeases(List<Long> ids, String leaseOwner, int leaseSeconds) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        String sql = "UPDATE goods_batch_request SET lease_expires_at = NOW() + make_interval(secs => ?)"
+                   + " WHERE request_id = ? AND status = 'PROCESSING' AND lease_owner = ?";
+        jdbcTemplate.batchUpdate(sql, ids, 100, (ps, id) -> {
+            ps.setInt(1, leaseSeconds);
+            ps.setLong(2, id);
+            ps.setString(3, leaseOwner);
+        });
+    }
+
+    @Override
+    public int releaseExpiredLeases(int leaseSeconds) {
+        String sql = "UPDATE goods_batch_request"
+                   + "   SET status = 'PENDING', lease_owner = NULL, lease_expires_at = NULL, updated_at = NOW()"
+                   + " WHERE status = 'PROCESSING'"
+                   + "   AND (lease_expires_at < NOW()"
+                   + "        OR (lease_expires_at IS NULL AND updated_at < NOW() - make_interval(secs => ?)))";
+        return jdbcTemplate.update(sql, leaseSeconds);
+    }
+
+    @Override
+    public boolean updateFinalStatus(Long requestId, String status, String inspectionStatus, String forbiddenWord, String errorMessage, String leaseOwner) {
+        String sql = "UPDATE goods_batch_request SET status = ?, forbidden_word = ?, inspection_status = ?, error_message = ?, updated_at = NOW(), lease_owner = NULL, lease_expires_at = NULL"
+                   + " WHERE request_id = ? AND status = 'PROCESSING' AND lease_owner = ?";
+        return jdbcTemplate.update(sql, status, forbiddenWord, inspectionStatus, errorMessage, requestId, leaseOwner) > 0;
+    }
+
+    @Override
+    public int[] updateFinalStatusAll(List<GoodsBatchStatusUpdate> updates, String leaseOwner) {
+        if (updates == null || updates.isEmpty()) {
+            return new int[0];
+        }
+        String sql = "UPDATE goods_batch_request SET status = ?, forbidden_word = ?, inspection_status = ?, error_message = ?, updated_at = NOW(), lease_owner = NULL, lease_expires_at = NULL"
+                   + " WHERE request_id = ? AND status = 'PROCESSING' AND lease_owner = ?";
+        return flatten(jdbcTemplate.batchUpdate(sql, updates, 100, (ps, update) -> {
+            ps.setString(1, update.getStatus());
+            ps.setString(2, update.getForbiddenWord());
+            ps.setString(3, update.getInspectionStatus());
+            ps.setString(4, update.getErrorMessage());
+            ps.setLong(5, update.getRequestId());
+            ps.setString(6, leaseOwner);
+        }));
     }
 
     @Override
@@ -137,12 +199,100 @@ public class DBGoodsBatchRequestRepository implements GoodsBatchRequestRepositor
     }
     
     /**
-     * 재시도 횟수를 1 증가시키고 상태를 다시 PENDING으로 변경하여 다음 스케줄에서 처리되도록 합니다.
+     * 재시도 횟수를 1 증가시키고 상태를 다시 PENDING으로 변경하여 next_attempt_at 이후의 스케줄에서 처리되도록 합니다.
      */
     @Override
-    public void incrementRetryCount(Long requestId, String reason) {
-        String sql = "UPDATE goods_batch_request SET retries = retries + 1, status = 'PENDING', updated_at = NOW(), error_message = ? WHERE request_id = ?";
-        jdbcTemplate.update(sql, reason, requestId);
+    public boolean incrementRetryCount(Long requestId, String reason, long backoffMillis, String leaseOwner) {
+        String sql = "UPDATE goods_batch_request SET retries = retries + 1, status = 'PENDING', updated_at = NOW(), error_message = ?, lease_owner = NULL, lease_expires_at = NULL"
+                   + ", next_attempt_at = NOW() + make_interval(secs => ?) WHERE request_id = ? AND status = 'PROCESSING' AND lease_owner = ?";
+        return jdbcTemplate.update(sql, reason, backoffMillis / 1000d, requestId, leaseOwner) > 0;
+    }
+
+    @Override
+    public int[] incrementRetryCountAll(List<GoodsBatchStatusUpdate> updates, String leaseOwner) {
+        if (updates == null || updates.isEmpty()) {
+            return new int[0];
+        }
+        String sql = "UPDATE goods_batch_request SET retries = retries + 1, status = 'PENDING', updated_at = NOW(), error_message = ?, lease_owner = NULL, lease_expires_at = NULL"
+                   + ", next_attempt_at = NOW() + make_interval(secs => ?) WHERE request_id = ? AND status = 'PROCESSING' AND lease_owner = ?";
+        return flatten(jdbcTemplate.batchUpdate(sql, updates, 100, (ps, update) -> {
+            ps.setString(1, update.getErrorMessage());
+            ps.setDouble(2, update.getBackoffMillis() / 1000d);
+            ps.setLong(3, update.getRequestId());
+            ps.setString(4, leaseOwner);
+        }));
+    }
+
+    @Override
+    public int[] releaseClaimAll(List<GoodsBatchStatusUpdate> updates, String leaseOwner) {
+        if (updates == null || updates.isEmpty()) {
+            return new int[0];
+        }
+        String sql = "UPDATE goods_batch_request SET status = 'PENDING', updated_at = NOW(), error_message = ?, lease_owner = NULL, lease_expires_at = NULL"
+                   + ", next_attempt_at = NOW() + make_interval(secs => ?) WHERE request_id = ? AND status = 'PROCESSING' AND lease_owner = ?";
+        return flatten(jdbcTemplate.batchUpdate(sql, updates, 100, (ps, update) -> {
+            ps.setString(1, update.getErrorMessage());
+            ps.setDouble(2, update.getBackoffMillis() / 1000d);
+            ps.setLong(3, update.getRequestId());
+            ps.setString(4, leaseOwner);
+        }));
+    }
+
+    @Override
+    public int[] markSubmitted(List<GoodsBatchRequest> requests, String aiBatchName, String leaseOwner) {
+        if (requests == null || requests.isEmpty()) {
+            return new int[0];
+        }
+        String sql = "UPDATE goods_batch_request SET status = 'SUBMITTED', ai_batch_name = ?, result_fingerprint = ?, updated_at = NOW(), lease_owner = NULL, lease_expires_at = NULL"
+                   + " WHERE request_id = ? AND status = 'PROCESSING' AND lease_owner = ?";
+        return flatten(jdbcTemplate.batchUpdate(sql, requests, 100, (ps, request) -> {
+            ps.setString(1, aiBatchName);
+            ps.setString(2, request.getResultFingerprint());
+            ps.setLong(3, request.getRequestId());
+            ps.setString(4, leaseOwner);
+        }));
+    }
+
+    /**
+     * batchUpdate(묶음 크기별 결과)를 입력 순서대로 한 줄로 펼칩니다.
+     * 드라이버가 건수를 알려주지 않는 경우(SUCCESS_NO_INFO)는 1건으로 봅니다.
+     */
+    private int[] flatten(int[][] batchCounts) {
+        int[] counts = new int[Arrays.stream(batchCounts).mapToInt(batch -> batch.length).sum()];
+        int index = 0;
+        for (int[] batch : batchCounts) {
+            for (int count : batch) {
+                counts[index++] = count == Statement.SUCCESS_NO_INFO ? 1 : count;
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public List<String> findSubmittedBatchNames() {
+        String sql = "SELECT /* DbGoodsBatchRequestRepository.findSubmittedBatchNames */ DISTINCT ai_batch_name"
+                   + "  FROM goods_batch_request"
+                   + " WHERE status = 'SUBMITTED'"
+                   + "   AND ai_batch_name IS NOT NULL";
+        return jdbcTemplate.queryForList(sql, String.class);
+    }
+
+    @Override
+    public List<GoodsBatchRequest> claimSubmittedRequests(String aiBatchName, String leaseOwner, int leaseSeconds) {
+        String sql = "UPDATE /* DbGoodsBatchRequestRepository.claimSubmittedRequests */ goods_batch_request"
+                   + "   SET status = 'PROCESSING', updated_at = NOW()"
+                   + "     , lease_owner = ?, lease_expires_at = NOW() + make_interval(secs => ?)"
+                   + " WHERE request_id IN (SELECT request_id"
+                   + "                        FROM goods_batch_request"
+                   + "                       WHERE status = 'SUBMITTED'"
+                   + "                         AND ai_batch_name = ?"
+                   + "                         FOR UPDATE SKIP LOCKED)"
+                   + " RETURNING *";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> {
+            GoodsBatchRequest request = rowMapper.mapRow(rs, rowNum);
+            request.setResultFingerprint(rs.getString("result_fingerprint"));
+            return request;
+        }, leaseOwner, leaseSeconds, aiBatchName);
     }
     
     @Override
@@ -0,0 +1,114 @@
+package com.tikitaka.api.batch.goods;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 'PROCESSING' 상태로 선점한 요청의 임대(lease)를 관리합니다.
+ * - 선점 시 소유 노드와 만료 시각을 기록하고, 처리 중인 요청은 주기적으로 만료 시각을 연장합니다.
+ * - JVM이 비정상 종료되어 연장이 멈춘 요청은 reaper가 'PENDING'으로 되돌려 다른 노드가 이어서 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GoodsBatchLeaseManager {
+
+    // 비어 있으면 "호스트명-pid"를 노드 식별자로 사용
+    @Value("${batch.node-id:}")
+    private String configuredNodeId;
+
+    // 임대 유지 시간(초). heartbeat 주기보다 충분히 길어야 합니다.
+    @Value("${batch.lease.duration-seconds:300}")
+    private int leaseSeconds;
+
+    private final GoodsBatchRequestRepository goodsBatchRequestRepository;
+
+    // 이 노드가 선점하여 아직 결과를 기록하지 않은 요청 ID 목록
+    private final Set<Long> inFlightRequestIds = ConcurrentHashMap.newKeySet();
+
+    private String nodeId;
+
+    @PostConstruct
+    void init() {
+        if (configuredNodeId != null && !configuredNodeId.isBlank()) {
+            nodeId = configuredNodeId.trim();
+        } else {
+            String hostName = "unknown-host";
+            try {
+                hostName = InetAddress.getLocalHost().getHostName();
+            } catch (Exception e) {
+                log.warn("호스트명을 확인할 수 없어 기본값을 사용합니다: {}", e.getMessage());
+            }
+            nodeId = hostName + "-" + ProcessHandle.current().pid();
+        }
+        if (nodeId.length() > 100) {
+            nodeId = nodeId.substring(0, 100);
+        }
+        log.info("배치 노드 식별자: {} (임대 시간: {}초)", nodeId, leaseSeconds);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public int getLeaseSeconds() {
+        return leaseSeconds;
+    }
+
+    /**
+     * 선점한 요청을 heartbeat 대상으로 등록합니다.
+     */
+    public void track(List<Long> requestIds) {
+        inFlightRequestIds.addAll(requestIds);
+    }
+
+    /**
+     * 결과 기록이 끝난 요청을 heartbeat 대상에서 제외합니다.
+     */
+    public void release(Long requestId) {
+        inFlightRequestIds.remove(requestId);
+    }
+
+    /**
+     * 처리 중인 요청의 임대 만료 시각을 연장합니다.
+     */
+    public void heartbeat() {
+        if (inFlightRequestIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(inFlightRequestIds);
+        try {
+            goodsBatchRequestRepository.extendLeases(ids, nodeId, leaseSeconds);
+            log.debug("임대 연장 완료 ({}건, node: {})", ids.size(), nodeId);
+        } catch (Exception e) {
+            log.error("임대 연장 중 오류가 발생했습니다. ({}건)", ids.size(), e);
+        }
+    }
+
+    /**
+     * 임대가 만료된 요청을 'PENDING'으로 되돌립니다.
+     * @return 되돌린 요청 건수
+     */
+    public int reapExpiredLeases() {
+        try {
+            int released = goodsBatchRequestRepository.releaseExpiredLeases(leaseSeconds);
+            if (released > 0) {
+                log.warn("임대가 만료된 {}건의 요청을 PENDING으로 되돌렸습니다.", released);
+            }
+            return released;
+        } catch (Exception e) {
+            log.error("만료 임대 회수 중 오류가 발생했습니다.", e);
+            return 0;
+        }
+    }
+}
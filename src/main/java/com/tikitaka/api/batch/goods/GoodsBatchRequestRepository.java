@@ -3,6 +3,7 @@ package com.tikitaka.api.batch.goods;
 import java.util.HashMap;
 import java.util.List;
 
+import com.tikitaka.api.batch.goods.dto.GoodsBatchStatusUpdate;
 import com.tikitaka.api.batch.goods.entity.GoodsBatchRequest;
 import com.tikitaka.api.batch.inspection.dto.InspectionResultReq;
 
@@ -27,19 +28,111 @@ public interface GoodsBatchRequestRepository {
      */
     void updateStatusToProcessing(List<Long> ids);
 
+    /**
+     * 'PENDING' 상태의 요청을 지정된 개수만큼 조회하는 동시에 'PROCESSING'으로 선점합니다.
+     * FOR UPDATE SKIP LOCKED로 다른 노드(또는 중복 실행된 스케줄러)가 잠근 행은 건너뛰므로,
+     * 여러 인스턴스가 같은 요청을 중복 검수하지 않습니다.
+     * 재시도 대기 중(next_attempt_at이 미래)인 요청은 선점하지 않습니다.
+     * 선점한 행에는 임대(lease) 소유 노드와 만료 시각이 기록됩니다.
+     * @param limit 선점할 최대 개수
+     * @param leaseOwner 선점하는 노드 식별자
+     * @param leaseSeconds 임대 유지 시간(초)
+     * @return 선점에 성공한 GoodsBatchRequest 객체 리스트 (status = 'PROCESSING')
+     */
+    List<GoodsBatchRequest> claimPendingRequests(int limit, String leaseOwner, int leaseSeconds);
+
+    /**
+     * 처리 중인 요청의 임대 만료 시각을 연장합니다. (heartbeat)
+     * 해당 노드가 소유한 'PROCESSING' 요청만 연장됩니다.
+     * @param ids 연장할 요청 ID 리스트
+     * @param leaseOwner 임대 소유 노드 식별자
+     * @param leaseSeconds 현재 시각부터 연장할 시간(초)
+     */
+    void extendLeases(List<Long> ids, String leaseOwner, int leaseSeconds);
+
+    /**
+     * 임대가 만료된 'PROCESSING' 요청을 'PENDING'으로 되돌립니다.
+     * 임대 정보가 없는 과거 데이터는 updated_at 기준으로 만료 여부를 판단합니다.
+     * @param leaseSeconds 임대 정보가 없는 행에 적용할 만료 기준 시간(초)
+     * @return 되돌린 요청 건수
+     */
+    int releaseExpiredLeases(int leaseSeconds);
+
+    /*
+     * 아래의 결과/재시도/해제 기록은 leaseOwner가 임대 중인 'PROCESSING' 행만 변경합니다.
+     * (GC 정지, 기록 지연 등으로 임대가 회수된 뒤 다른 노드가 다시 선점한 행을 덮어쓰지 않도록)
+     * 여러 건을 기록하는 메서드는 입력 순서대로 건별 변경 행 수를 반환하며, 0이면 임대를 잃어 기록하지 않은 요청입니다.
+     */
+
     /**
      * 단일 요청의 상태를 'COMPLETED' 또는 'FAILED'로 변경합니다.
      * @param requestId 요청 ID
      * @param status 변경할 최종 상태
      * @param errorMessage 실패 시 에러 메시지
+     * @param leaseOwner 임대 소유 노드 식별자
+     * @return 기록했으면 true, 임대를 잃었으면 false
      */
-    void updateFinalStatus(Long requestId, String status, String inspectionStatus, String forbiddenWord, String errorMessage);
+    boolean updateFinalStatus(Long requestId, String status, String inspectionStatus, String forbiddenWord, String errorMessage, String leaseOwner);
 
     /**
      * [추가] 요청의 재시도 횟수를 1 증가시키고 상태를 'PENDING'으로 되돌립니다.
+     * 다음 시도는 next_attempt_at(현재 시각 + backoffMillis) 이후에 선점됩니다.
      * @param requestId 재시도할 요청 ID
+     * @param backoffMillis 다음 시도까지 대기 시간(ms)
+     * @param leaseOwner 임대 소유 노드 식별자
+     * @return 기록했으면 true, 임대를 잃었으면 false
+     */
+    boolean incrementRetryCount(Long requestId, String reason, long backoffMillis, String leaseOwner);
+
+    /**
+     * 여러 요청의 최종 상태를 JDBC batch로 한 번에 변경합니다.
+     * @param updates 변경할 상태 목록 (type = FINAL)
+     * @param leaseOwner 임대 소유 노드 식별자
+     * @return 건별 변경 행 수
+     */
+    int[] updateFinalStatusAll(List<GoodsBatchStatusUpdate> updates, String leaseOwner);
+
+    /**
+     * 여러 요청의 재시도 횟수를 JDBC batch로 한 번에 1 증가시키고 상태를 'PENDING'으로 되돌립니다.
+     * @param updates 재시도할 요청 목록 (type = RETRY)
+     * @param leaseOwner 임대 소유 노드 식별자
+     * @return 건별 변경 행 수
+     */
+    int[] incrementRetryCountAll(List<GoodsBatchStatusUpdate> updates, String leaseOwner);
+
+    /**
+     * 여러 요청의 선점을 재시도 횟수 차감 없이 해제하고 상태를 'PENDING'으로 되돌립니다. (AI 제공자 장애로 호출하지 못한 경우)
+     * @param updates 되돌릴 요청 목록 (type = RELEASE)
+     * @param leaseOwner 임대 소유 노드 식별자
+     * @return 건별 변경 행 수
+     */
+    int[] releaseClaimAll(List<GoodsBatchStatusUpdate> updates, String leaseOwner);
+
+    /**
+     * 일괄 처리(Batch) 작업으로 제출한 요청을 'SUBMITTED' 상태로 바꾸고 작업 이름을 기록합니다.
+     * 결과가 나올 때까지 수 시간이 걸릴 수 있으므로 임대는 해제하며, 만료 임대 회수 대상에서도 제외됩니다.
+     * 결과를 반영할 때 검수 결과 캐시에 저장할 수 있도록 요청의 캐시 키(resultFingerprint)도 함께 기록합니다.
+     * @param requests 제출한 요청 리스트
+     * @param aiBatchName "AI 제공자:작업 이름" (예: gemini:batches/123, openai:batch_abc)
+     * @param leaseOwner 임대 소유 노드 식별자
+     * @return 건별 변경 행 수
+     */
+    int[] markSubmitted(List<GoodsBatchRequest> requests, String aiBatchName, String leaseOwner);
+
+    /**
+     * 결과를 기다리는('SUBMITTED') 일괄 처리 작업 이름 목록을 조회합니다.
+     */
+    List<String> findSubmittedBatchNames();
+
+    /**
+     * 일괄 처리 작업이 끝난 요청들을 결과 반영을 위해 'PROCESSING'으로 선점합니다.
+     * 여러 노드가 같은 작업을 동시에 확인해도 한 노드만 선점에 성공합니다.
+     * @param aiBatchName "AI 제공자:작업 이름"
+     * @param leaseOwner 선점하는 노드 식별자
+     * @param leaseSeconds 임대 유지 시간(초)
+     * @return 선점한 요청 리스트 (제출 시 기록한 resultFingerprint 포함)
      */
-    void incrementRetryCount(Long requestId, String reason);
+    List<GoodsBatchRequest> claimSubmittedRequests(String aiBatchName, String leaseOwner, int leaseSeconds);
     
     /**
      * 오래된 배치 기록을 조회합니다.
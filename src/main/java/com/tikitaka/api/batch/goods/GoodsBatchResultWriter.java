@@ -0,0 +1,244 @@
+package com.tikitaka.api.batch.goods;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tikitaka.api.batch.goods.dto.GoodsBatchStatusUpdate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검수 결과 상태 변경을 모아서 한 번에 기록하는 쓰기 지연(write-behind) 버퍼입니다.
+ * 상품 1건마다 UPDATE/COMMIT을 수행하는 대신, flush-size 건이 쌓이거나 flush-interval-ms가 지나면
+ * 하나의 트랜잭션 안에서 JDBC batch로 기록합니다. 애플리케이션 종료 시 남은 변경분을 모두 기록합니다.
+ * - 변경마다 기록 결과(future)를 반환하므로, 호출자는 커밋된 뒤에 임대 해제와 결과 전송을 진행합니다.
+ * - 일괄 기록이 실패하면 건별로 다시 기록하여, 기록할 수 없는 변경(poison row)만 격리하고 나머지는 기록합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GoodsBatchResultWriter {
+
+    // 일괄 기록 실패 후 건별 기록에서 처음부터 연속으로 이 건수만큼 실패하면 DB 장애로 보고 나머지는 다음 주기에 다시 시도
+    private static final int OUTAGE_PROBE_COUNT = 3;
+
+    // 이 건수만큼 쌓이면 즉시 기록
+    @Value("${batch.result-writer.flush-size:100}")
+    private int flushSize;
+
+    // 기록 실패가 반복될 때 보관할 최대 건수 (초과분은 결과를 전송하지 않고 임대 만료 후 다시 검수됨)
+    @Value("${batch.result-writer.max-buffer-size:5000}")
+    private int maxBufferSize;
+
+    // 변경 1건의 최대 기록 시도 횟수 (초과하면 격리)
+    @Value("${batch.result-writer.max-attempts:5}")
+    private int maxAttempts;
+
+    private final GoodsBatchRequestRepository goodsBatchRequestRepository;
+    private final GoodsBatchLeaseManager leaseManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Object bufferLock = new Object();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private List<PendingUpdate> buffer = new ArrayList<>();
+
+    // 요청별로 아직 whenWritten으로 가져가지 않은 마지막 변경의 기록 결과
+    private final Map<Long, CompletableFuture<Boolean>> lastWrites = new ConcurrentHashMap<>();
+
+    /**
+     * 요청의 최종 상태 변경을 버퍼에 추가합니다.
+     * @return 기록이 커밋되면 true, 임대를 잃었거나 기록하지 못하면 false로 완료되는 future
+     * @see GoodsBatchRequestRepository#updateFinalStatus(Long, String, String, String, String, String)
+     */
+    public CompletableFuture<Boolean> updateFinalStatus(Long requestId, String status, String inspectionStatus, String forbiddenWord, String errorMessage) {
+        return enqueue(GoodsBatchStatusUpdate.finalStatus(requestId, status, inspectionStatus, forbiddenWord, errorMessage));
+    }
+
+    /**
+     * 재시도 횟수 증가(PENDING 복귀)를 버퍼에 추가합니다.
+     * @return 기록이 커밋되면 true, 임대를 잃었거나 기록하지 못하면 false로 완료되는 future
+     * @see GoodsBatchRequestRepository#incrementRetryCount(Long, String, long, String)
+     */
+    public CompletableFuture<Boolean> incrementRetryCount(Long requestId, String reason, long backoffMillis) {
+        return enqueue(GoodsBatchStatusUpdate.retry(requestId, reason, backoffMillis));
+    }
+
+    /**
+     * 재시도 횟수 차감 없는 선점 해제(PENDING 복귀)를 버퍼에 추가합니다.
+     * @return 기록이 커밋되면 true, 임대를 잃었거나 기록하지 못하면 false로 완료되는 future
+     * @see GoodsBatchRequestRepository#releaseClaimAll(List, String)
+     */
+    public CompletableFuture<Boolean> releaseClaim(Long requestId, String reason, long backoffMillis) {
+        return enqueue(GoodsBatchStatusUpdate.release(requestId, reason, backoffMillis));
+    }
+
+    /**
+     * 요청에 대해 마지막으로 버퍼에 추가한 변경의 기록 결과를 가져갑니다. (요청 처리가 끝날 때 1번 호출)
+     * 같은 요청의 변경은 들어온 순서대로 기록되므로, 마지막 변경이 끝나면 앞선 변경도 끝난 상태입니다.
+     * @return 기록이 커밋되면 true, 임대를 잃었거나 기록하지 못하면 false로 완료되는 future (추가한 변경이 없으면 true)
+     */
+    public CompletableFuture<Boolean> whenWritten(Long requestId) {
+        CompletableFuture<Boolean> written = lastWrites.remove(requestId);
+        return written != null ? written : CompletableFuture.completedFuture(true);
+    }
+
+    private CompletableFuture<Boolean> enqueue(GoodsBatchStatusUpdate update) {
+        PendingUpdate pending = new PendingUpdate(update, new CompletableFuture<>(), 1);
+        lastWrites.put(update.getRequestId(), pending.written());
+        boolean full;
+        synchronized (bufferLock) {
+            buffer.add(pending);
+            full = buffer.size() >= flushSize;
+        }
+        if (full) {
+            flush();
+        }
+        return pending.written();
+    }
+
+    /**
+     * 버퍼에 쌓인 상태 변경을 하나의 트랜잭션으로 기록합니다.
+     * 실패하면 건별로 다시 기록하여 실패한 변경만 격리하거나, DB 장애로 보이면 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${batch.result-writer.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<PendingUpdate> updates;
+            synchronized (bufferLock) {
+                if (buffer.isEmpty()) {
+                    return;
+                }
+                updates = buffer;
+                buffer = new ArrayList<>();
+            }
+
+            try {
+                int[] counts = transactionTemplate.execute(status -> writeInOrder(updates));
+                complete(updates, counts);
+                log.debug("검수 결과 {}건을 일괄 기록했습니다.", updates.size());
+            } catch (Exception e) {
+                log.error("!! 검수 결과 일괄 기록 실패 ({}건). 건별로 다시 기록합니다. !!", updates.size(), e);
+                writeEach(updates);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        log.info("종료 전 남은 검수 결과를 기록합니다.");
+        flush();
+    }
+
+    /**
+     * 변경을 1건씩 별도 트랜잭션으로 기록합니다.
+     * 다른 변경은 기록되는데 실패하는 변경은 해당 행의 문제로 보고 격리하며,
+     * 처음부터 연속으로 실패하면 DB 장애로 보고 남은 변경을 다음 주기에 다시 시도합니다.
+     */
+    private void writeEach(List<PendingUpdate> updates) {
+        boolean anyWritten = false;
+        Map<PendingUpdate, Exception> failed = new LinkedHashMap<>();
+        for (PendingUpdate pending : updates) {
+            try {
+                complete(List.of(pending), transactionTemplate.execute(status -> writeInOrder(List.of(pending))));
+                anyWritten = true;
+            } catch (Exception e) {
+                failed.put(pending, e);
+                if (!anyWritten && failed.size() >= Math.min(OUTAGE_PROBE_COUNT, updates.size())) {
+                    log.error("!! 검수 결과를 1건도 기록하지 못했습니다. {}건을 다음 주기에 다시 시도합니다. !!", updates.size(), e);
+                    requeue(updates);
+                    return;
+                }
+            }
+        }
+        failed.forEach(this::quarantine);
+    }
+
+    /**
+     * 같은 요청에 대해 FINAL → RETRY 순서로 기록되는 경우가 있으므로,
+     * 들어온 순서를 유지한 채 연속된 같은 유형끼리만 묶어서 기록합니다.
+     * 이 노드의 임대가 유지된 행만 기록됩니다.
+     * @return 입력 순서대로 건별 변경 행 수 (0이면 임대를 잃은 요청)
+     */
+    private int[] writeInOrder(List<PendingUpdate> pendingUpdates) {
+        List<GoodsBatchStatusUpdate> updates = pendingUpdates.stream().map(PendingUpdate::update).toList();
+        String nodeId = leaseManager.getNodeId();
+        int[] counts = new int[updates.size()];
+        int start = 0;
+        for (int i = 1; i <= updates.size(); i++) {
+            if (i < updates.size() && updates.get(i).getType() == updates.get(start).getType()) {
+                continue;
+            }
+            List<GoodsBatchStatusUpdate> group = updates.subList(start, i);
+            int[] groupCounts = switch (group.get(0).getType()) {
+                case FINAL -> goodsBatchRequestRepository.updateFinalStatusAll(group, nodeId);
+                case RETRY -> goodsBatchRequestRepository.incrementRetryCountAll(group, nodeId);
+                case RELEASE -> goodsBatchRequestRepository.releaseClaimAll(group, nodeId);
+            };
+            System.arraycopy(groupCounts, 0, counts, start, groupCounts.length);
+            start = i;
+        }
+        return counts;
+    }
+
+    private void complete(List<PendingUpdate> updates, int[] counts) {
+        for (int i = 0; i < updates.size(); i++) {
+            PendingUpdate pending = updates.get(i);
+            if (counts[i] == 0) {
+                // 임대가 만료되어 다른 노드가 다시 선점한 요청은 덮어쓰지 않습니다.
+                log.warn("임대를 잃어 검수 결과를 기록하지 않았습니다. (요청 ID: {}, 유형: {}, node: {})",
+                        pending.update().getRequestId(), pending.update().getType(), leaseManager.getNodeId());
+            }
+            pending.written().complete(counts[i] > 0);
+        }
+    }
+
+    private void quarantine(PendingUpdate pending, Exception e) {
+        log.error("!! 기록할 수 없는 검수 결과를 격리합니다. 결과를 전송하지 않고 임대 만료 후 다시 검수됩니다. !! {}", pending.update(), e);
+        pending.written().complete(false);
+    }
+
+    private void requeue(List<PendingUpdate> failedUpdates) {
+        List<PendingUpdate> retried = new ArrayList<>();
+        for (PendingUpdate pending : failedUpdates) {
+            if (pending.attempts() >= maxAttempts) {
+                quarantine(pending, new IllegalStateException("기록 시도 " + pending.attempts() + "회 실패"));
+            } else {
+                retried.add(pending.nextAttempt());
+            }
+        }
+        synchronized (bufferLock) {
+            List<PendingUpdate> merged = new ArrayList<>(retried);
+            merged.addAll(buffer);
+            if (merged.size() > maxBufferSize) {
+                int dropCount = merged.size() - maxBufferSize;
+                log.error("!! 검수 결과 버퍼 초과로 {}건을 버립니다. 결과를 전송하지 않고 임대 만료 후 다시 검수됩니다. !!", dropCount);
+                merged.subList(0, dropCount).forEach(pending -> pending.written().complete(false));
+                merged = new ArrayList<>(merged.subList(dropCount, merged.size()));
+            }
+            buffer = merged;
+        }
+    }
+
+    // 버퍼에 쌓인 변경 1건과 기록 결과, 기록 시도 횟수
+    private record PendingUpdate(GoodsBatchStatusUpdate update, CompletableFuture<Boolean> written, int attempts) {
+
+        PendingUpdate nextAttempt() {
+            return new PendingUpdate(update, written, attempts + 1);
+        }
+    }
+}
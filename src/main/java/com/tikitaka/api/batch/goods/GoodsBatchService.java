@@ -21,15 +21,24 @@ import com.tikitaka.api.batch.goods.entity.GoodsBatchRequest;
 import com.tikitaka.api.batch.image.ImageDownloadBatchService;
 import com.tikitaka.api.batch.image.ImageSplittingBatchService;
 import com.tikitaka.api.batch.image.dto.UrlMultipartFile;
+import com.tikitaka.api.batch.inspection.BulkInspectBatchService;
+import com.tikitaka.api.batch.inspection.GeminiPackedInspectionService;
 import com.tikitaka.api.batch.inspection.InspectBatchService;
+import com.tikitaka.api.batch.inspection.dto.BulkInspectionResult;
+import com.tikitaka.api.batch.inspection.dto.BulkJobStatus;
 import com.tikitaka.api.batch.inspection.dto.FileContent;
 import com.tikitaka.api.batch.inspection.dto.InspectionResult;
 import com.tikitaka.api.batch.inspection.dto.InspectionResultReq;
+import com.tikitaka.api.batch.inspection.resilience.AiProviderUnavailableException;
+import com.tikitaka.api.global.config.HttpClientConfig;
+import com.tikitaka.api.global.config.InspectionExecutorConfig;
+import com.tikitaka.api.global.config.InspectionPipelineConfig;
 
 import ch.qos.logback.core.util.StringUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.GetObjectRequest;
@@ -38,9 +47,12 @@ import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 
 import org.apache.commons.io.input.BOMInputStream;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import reactor.util.retry.Retry;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.util.FileSystemUtils;
@@ -63,8 +75,10 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
@@ -104,20 +118,53 @@ public class GoodsBatchService {
     @Value("${batch.max-tries}")
     private int MAX_RETRIES;
 
-    @Value("${batch.multi-thread-count}")
-    private int MULTI_THREAD_COUNT;
-
     @Value("${batch.result.sendYn}")
     private String sendResultYn;
 
+    // Y: 다운로드/이미지 변환/AI 호출을 단계별 스레드 풀로 나누어 처리
+    @Value("${batch.pipeline.staged-yn:N}")
+    private String stagedPipelineYn;
+
+    // 일괄 처리(bulk) 모드에서 작업을 제출할 AI 제공자 (gemini, openai)
+    @Value("${batch.bulk.provider:gemini}")
+    private String bulkProvider;
+
+    // 제공자 접두어 없이 기록된 일괄 처리 작업의 제공자
+    private static final String LEGACY_BULK_PROVIDER = "gemini";
+
+    // 일괄 처리 작업 생성 후 요청을 'SUBMITTED'로 기록하는 최대 시도 횟수와 재시도 간격(ms, 시도마다 배수로 증가)
+    private static final int MARK_SUBMITTED_ATTEMPTS = 3;
+    private static final long MARK_SUBMITTED_RETRY_INTERVAL_MS = 1000;
+
     private final GoodsBatchRequestRepository goodsBatchRequestRepository;
     private final AmazonS3 amazonS3; // V1 SDK의 S3 Client
     private final InspectBatchService inspectService;
+    private final List<BulkInspectBatchService> bulkInspectServices;
+    private final GeminiPackedInspectionService packedInspectionService;
     private final ImageDownloadBatchService imageDownloadService;
     private final ImageSplittingBatchService imageSplittingService;
-    private final WebClient.Builder webClientBuilder;
+    // 결과 콜백/모니터링 전송용 (커넥션 풀 공유)
+    @Qualifier(HttpClientConfig.CALLBACK_WEB_CLIENT)
+    private final WebClient callbackWebClient;
     private final ObjectMapper objectMapper;
     private final ForbiddenWordBatchRepository forbiddenWordBatchRepository;
+    private final GoodsBatchLeaseManager leaseManager;
+    private final GoodsBatchResultWriter resultWriter;
+    private final InspectionResultCache resultCache;
+    private final InspectionTokenUsageRecorder tokenUsageRecorder;
+    private final RetryBackoffPolicy retryBackoffPolicy;
+
+    @Qualifier(InspectionExecutorConfig.INSPECTION_EXECUTOR)
+    private final AsyncTaskExecutor inspectionTaskExecutor;
+
+    @Qualifier(InspectionPipelineConfig.DOWNLOAD_EXECUTOR)
+    private final ThreadPoolTaskExecutor inspectionDownloadExecutor;
+
+    @Qualifier(InspectionPipelineConfig.IMAGE_EXECUTOR)
+    private final ThreadPoolTaskExecutor inspectionImageExecutor;
+
+    // 최종 상태가 확정되고 결과 기록이 커밋되어 결과 전송을 기다리는 요청 목록
+    private final Queue<GoodsBatchRequest> pendingResultQueue = new ConcurrentLinkedQueue<>();
 
     
     @Async
@@ -151,6 +198,8 @@ public class GoodsBatchService {
             
             forbiddenWordBatchRepository.saveAll(forbiddenWords);
             log.info("processHarmfulwordsBatch 5. 총 {}건의 상품 검수 요청을 DB에 성공적으로 저장했습니다.", forbiddenWords.size());
+            // Gemini 컨텍스트 캐시는 금칙어 목록 내용으로 구분되므로 다음 검수부터 새 목록의 캐시를 사용합니다.
+            // (이전 목록의 캐시는 진행 중인 요청이 참조할 수 있으므로 지우지 않고 TTL이 지나 만료되도록 둡니다.)
             return true;
 
         } catch (Exception e) {
@@ -255,146 +304,401 @@ public class GoodsBatchService {
         try {
             log.debug("--- request_id: {} 검수 처리 시작 ---", request.getRequestId());
 
-            // 3-1. DB 데이터를 AI 검수 서비스가 이해할 수 있는 형태로 변환합니다.
-            Goods goods = request.toGoodsEntity();
-            List<FileContent> filesToInspect = readFilesFromPaths(request);
-
-            // 3-2. 금칙어 목록을 조회합니다.
-            ForbiddenWordSearchParam searchParam = new ForbiddenWordSearchParam();
-            searchParam.setLgroup(goods.getLgroup());
-            searchParam.setMgroup(goods.getMgroup());
-            searchParam.setSgroup(goods.getSgroup());
-            searchParam.setDgroup(goods.getDgroup());
-            List<ForbiddenWord> forbiddenWordsList = forbiddenWordBatchRepository.findActiveForbiddenWords(searchParam);
-            String forbiddenWords = forbiddenWordsList.stream()
-                    .map(ForbiddenWord::getWord)
-                    .collect(Collectors.joining(","));
-
-            if(forbiddenWords.length() <= 0) {
-            	// 3-3. 금칙어가 없는 경우 정상종료처리
-            	request.setStatus("COMPLETED");
-            	request.setInspectionStatus("COMPLETED");
-            	request.setErrorMessage(null);
-            	goodsBatchRequestRepository.updateFinalStatus(request.getRequestId(), "COMPLETED", "COMPLETED", null, "금칙어가 없습니다.");
-//            	continue;
-            	return;
+            PreparedInspection prepared = prepareInspection(request, inspectService.getInspectorId());
+            if (prepared == null) {
+                return;
             }
             
             // 3-3. Gemini API 호출
-            InspectionResult inspectionResult = inspectService.performAiInspection(goods, filesToInspect, forbiddenWords);
+            InspectionResult inspectionResult = performAiInspection(prepared);
             log.debug("Gemini API 호출 결과: 승인여부 = {}, 사유 = {}", inspectionResult.isApproved(), inspectionResult.getReason());
             
-            // 3-4. 결과에 따라 DB 상태를 업데이트합니다.
-            if (inspectionResult.isApproved()) {
-            	request.setStatus("COMPLETED");
-            	request.setInspectionStatus("COMPLETED");
-            	request.setForbiddenWord(inspectionResult.getForbiddenWord());
-            	request.setErrorMessage(null);
-            	goodsBatchRequestRepository.updateFinalStatus(request.getRequestId(), "COMPLETED", "COMPLETED", null, null);
-            } else {
-            	// 거절된 경우
-            	// ==================================================================================
-                // 거절 1. 안전 설정에 의한 차단일 경우, 예외를 발생시켜 catch 블록의 재시도 로직을 수행하도록 처리
-                // ==================================================================================
-                if (inspectionResult.getReason() != null && inspectionResult.getReason().startsWith("AI 안전 정책에 의해 차단되었습니다")) {
-                    // 로그를 남기고 RuntimeException을 발생시켜 catch 블록으로 이동
-                    log.warn("request_id: {} - 안전 설정에 의해 차단됨. 재시도를 수행합니다. 사유: {}", request.getRequestId(), inspectionResult.getReason());
-                    throw new SafetyBlockException(inspectionResult);
-                }
-                // ==================================================================================                	
-            	
-            	request.setStatus("COMPLETED");
-            	request.setInspectionStatus("FAILED");
-            	request.setForbiddenWord(inspectionResult.getForbiddenWord());
-            	request.setErrorMessage(inspectionResult.getReason());
-            	goodsBatchRequestRepository.updateFinalStatus(request.getRequestId(), "COMPLETED", "FAILED", inspectionResult.getForbiddenWord(), inspectionResult.getReason());
-            	
-            	log.info("request_id: {} - 검수 반려됨. 재시도를 수행합니다. 사유: {}", request.getRequestId(), inspectionResult.getReason());
-                throw new InspectionRejectedException(inspectionResult);
-            }
+            applyInspectionResult(request, inspectionResult);
 
         } catch (Exception e) {
-            request.setStatus("COMPLETED");         // Job 상태 완료
-            request.setInspectionStatus("FAILED");  // 검수 결과 실패
+            handleInspectionFailure(request, e);
+        } finally {
+            finishInspection(request);
+        }
+    }
 
-        	int currentRetries = request.getRetries();
-            
-            // 재시도 횟수가 최대 횟수 미만인 경우
-            if (currentRetries < MAX_RETRIES) {
-            	log.info("!! request_id: {} 처리 중 오류 발생. 재시도를 위해 상태를 PENDING으로 변경합니다. (시도: {}) !!", 
-                         request.getRequestId(), currentRetries + 1, e.getMessage());
-                // 재시도 횟수를 1 증가시키고 상태를 다시 PENDING으로 업데이트합니다.
-                goodsBatchRequestRepository.incrementRetryCount(request.getRequestId(), e.getMessage());
-                request.setStatus("PENDING");         // Job 상태 처리중
+    /**
+     * AI 검수에 필요한 상품 정보, 이미지, 금칙어 목록을 준비합니다. (파일/DB I/O 포함)
+     * @param inspectorId 검수를 수행할 모델 (검수 결과 캐시 키에 포함)
+     * @return 금칙어가 없거나 캐시된 검수 결과로 AI 호출 없이 완료 처리한 경우 null
+     */
+    private PreparedInspection prepareInspection(GoodsBatchRequest request, String inspectorId) throws IOException {
+        // 3-1. DB 데이터를 AI 검수 서비스가 이해할 수 있는 형태로 변환합니다.
+        Goods goods = request.toGoodsEntity();
+
+        // 3-2. 금칙어 목록을 조회합니다. (금칙어가 없으면 이미지를 받을 필요가 없으므로 먼저 조회)
+        String forbiddenWords = findForbiddenWords(goods);
+
+        if(forbiddenWords.length() <= 0) {
+        	// 3-3. 금칙어가 없는 경우 정상종료처리
+        	completeWithoutForbiddenWords(request);
+        	return null;
+        }
+
+        // 3-4. 이미지를 받은 뒤, 입력이 같은 확정 결과가 있으면 분할/변환과 AI 호출 없이 재사용합니다.
+        MultipartFile[] images = downloadImages(request);
+        if (applyCachedResult(request, goods, images, forbiddenWords, inspectorId)) {
+            return null;
+        }
+        
+        return new PreparedInspection(goods, convertImagesForInspection(images), forbiddenWords);
+    }
+
+    /**
+     * AI 검수를 수행합니다. 묶음 검수 대상이면 다른 상품과 함께 호출 1번으로 검수합니다. (gemini.packed.enabled-yn)
+     */
+    private InspectionResult performAiInspection(PreparedInspection prepared) throws Exception {
+        if (packedInspectionService.isEligible(prepared.goods(), prepared.files())) {
+            return packedInspectionService.inspect(prepared.goods(), prepared.files(), prepared.forbiddenWords()).block();
+        }
+        return inspectService.performAiInspection(prepared.goods(), prepared.files(), prepared.forbiddenWords());
+    }
+
+    private Mono<InspectionResult> performAiInspectionReactive(PreparedInspection prepared) {
+        if (packedInspectionService.isEligible(prepared.goods(), prepared.files())) {
+            return packedInspectionService.inspect(prepared.goods(), prepared.files(), prepared.forbiddenWords());
+        }
+        return inspectService.performAiInspectionReactive(prepared.goods(), prepared.files(), prepared.forbiddenWords());
+    }
+
+    /**
+     * 검수 결과 캐시를 조회하여, 같은 입력(상품 텍스트, 이미지 내용, 금칙어, 모델, 프롬프트 버전)의 확정 결과가 있으면 그대로 반영합니다.
+     * 캐시가 없으면 AI 검수 결과를 저장할 수 있도록 요청에 캐시 키를 기록합니다.
+     * @return 캐시된 결과로 완료 처리한 경우 true
+     */
+    private boolean applyCachedResult(GoodsBatchRequest request, Goods goods, MultipartFile[] images,
+                                      String forbiddenWords, String inspectorId) throws IOException {
+        if (!resultCache.isEnabled()) {
+            return false;
+        }
+        String fingerprint = resultCache.fingerprint(goods, images, forbiddenWords, inspectorId);
+        InspectionResult cached = resultCache.find(fingerprint);
+        if (cached == null) {
+            request.setResultFingerprint(fingerprint);
+            return false;
+        }
+
+        log.info("request_id: {} - 변경 없는 상품으로 이전 검수 결과를 재사용합니다. (승인여부: {}, 사유: {})",
+                request.getRequestId(), cached.isApproved(), cached.getReason());
+        request.setStatus("COMPLETED");
+        if (cached.isApproved()) {
+            request.setInspectionStatus("COMPLETED");
+            request.setForbiddenWord(cached.getForbiddenWord());
+            request.setErrorMessage(null);
+            resultWriter.updateFinalStatus(request.getRequestId(), "COMPLETED", "COMPLETED", null, null);
+        } else {
+            // 캐시에는 재시도를 모두 거친 최종 반려만 저장되므로 재시도 없이 반려로 확정합니다.
+            request.setInspectionStatus("FAILED");
+            request.setForbiddenWord(cached.getForbiddenWord());
+            request.setErrorMessage(cached.getReason());
+            resultWriter.updateFinalStatus(request.getRequestId(), "COMPLETED", "FAILED", cached.getForbiddenWord(), cached.getReason());
+        }
+        return true;
+    }
+
+    /**
+     * 상품 카테고리에 적용되는 활성 금칙어를 쉼표로 연결하여 반환합니다.
+     */
+    private String findForbiddenWords(Goods goods) {
+        ForbiddenWordSearchParam searchParam = new ForbiddenWordSearchParam();
+        searchParam.setLgroup(goods.getLgroup());
+        searchParam.setMgroup(goods.getMgroup());
+        searchParam.setSgroup(goods.getSgroup());
+        searchParam.setDgroup(goods.getDgroup());
+        List<ForbiddenWord> forbiddenWordsList = forbiddenWordBatchRepository.findActiveForbiddenWords(searchParam);
+        return forbiddenWordsList.stream()
+                .map(ForbiddenWord::getWord)
+                .collect(Collectors.joining(","));
+    }
+
+    private void completeWithoutForbiddenWords(GoodsBatchRequest request) {
+    	request.setStatus("COMPLETED");
+    	request.setInspectionStatus("COMPLETED");
+    	request.setErrorMessage(null);
+    	resultWriter.updateFinalStatus(request.getRequestId(), "COMPLETED", "COMPLETED", null, "금칙어가 없습니다.");
+    }
+
+    /**
+     * AI 검수 결과를 요청 상태에 반영합니다.
+     * 안전 설정 차단/반려인 경우 예외를 던져 재시도 로직(handleInspectionFailure)을 수행하도록 합니다.
+     */
+    private void applyInspectionResult(GoodsBatchRequest request, InspectionResult inspectionResult) {
+        // 재시도 호출도 비용이 발생하므로 결과와 관계없이 호출마다 토큰 사용량을 기록합니다.
+        tokenUsageRecorder.record(request, inspectionResult);
+
+        // 3-4. 결과에 따라 DB 상태를 업데이트합니다.
+        if (inspectionResult.isApproved()) {
+        	request.setStatus("COMPLETED");
+        	request.setInspectionStatus("COMPLETED");
+        	request.setForbiddenWord(inspectionResult.getForbiddenWord());
+        	request.setErrorMessage(null);
+        	resultWriter.updateFinalStatus(request.getRequestId(), "COMPLETED", "COMPLETED", null, null);
+        	// 승인 결과는 다음 배치에서 변경 없는 상품에 재사용합니다.
+        	resultCache.save(request.getResultFingerprint(), inspectionResult);
+        } else {
+        	// 거절된 경우
+        	// ==================================================================================
+            // 거절 1. 안전 설정에 의한 차단일 경우, 예외를 발생시켜 catch 블록의 재시도 로직을 수행하도록 처리
+            // ==================================================================================
+            if (inspectionResult.getReason() != null && inspectionResult.getReason().startsWith("AI 안전 정책에 의해 차단되었습니다")) {
+                // 로그를 남기고 RuntimeException을 발생시켜 catch 블록으로 이동
+                log.warn("request_id: {} - 안전 설정에 의해 차단됨. 재시도를 수행합니다. 사유: {}", request.getRequestId(), inspectionResult.getReason());
+                throw new SafetyBlockException(inspectionResult);
+            }
+            // ==================================================================================                	
+        	
+        	request.setStatus("COMPLETED");
+        	request.setInspectionStatus("FAILED");
+        	request.setForbiddenWord(inspectionResult.getForbiddenWord());
+        	request.setErrorMessage(inspectionResult.getReason());
+        	resultWriter.updateFinalStatus(request.getRequestId(), "COMPLETED", "FAILED", inspectionResult.getForbiddenWord(), inspectionResult.getReason());
+        	
+        	log.info("request_id: {} - 검수 반려됨. 재시도를 수행합니다. 사유: {}", request.getRequestId(), inspectionResult.getReason());
+            throw new InspectionRejectedException(inspectionResult);
+        }
+    }
+
+    /**
+     * 검수 실패 시 재시도 횟수에 따라 PENDING 복귀(백오프) 또는 최종 실패로 기록합니다.
+     */
+    private void handleInspectionFailure(GoodsBatchRequest request, Throwable e) {
+        // AI 제공자 회로 차단/bulkhead 초과로 호출하지 못한 경우: 재시도 횟수를 차감하지 않고 PENDING으로 되돌립니다.
+        AiProviderUnavailableException unavailable = findProviderUnavailable(e);
+        if (unavailable != null) {
+            log.warn("!! request_id: {} AI 제공자({}) 호출 불가. {}ms 후 다시 처리합니다. !! {}",
+                     request.getRequestId(), unavailable.getProvider(), unavailable.getRetryAfterMillis(), unavailable.getMessage());
+            resultWriter.releaseClaim(request.getRequestId(), unavailable.getMessage(), unavailable.getRetryAfterMillis());
+            request.setStatus("PENDING");
+            return;
+        }
+
+        request.setStatus("COMPLETED");         // Job 상태 완료
+        request.setInspectionStatus("FAILED");  // 검수 결과 실패
+
+        int currentRetries = request.getRetries();
+        
+        // 재시도 횟수가 최대 횟수 미만인 경우
+        if (currentRetries < MAX_RETRIES) {
+            // 오류 유형별 지수 백오프(+jitter)로 다음 시도 시각을 정합니다.
+            long backoffMillis = retryBackoffPolicy.backoffMillis(e, currentRetries);
+        	log.info("!! request_id: {} 처리 중 오류 발생. 재시도를 위해 상태를 PENDING으로 변경합니다. (시도: {}, {}ms 후 재시도) !! {}", 
+                     request.getRequestId(), currentRetries + 1, backoffMillis, e.getMessage());
+            // 재시도 횟수를 1 증가시키고 상태를 다시 PENDING으로 업데이트합니다.
+            resultWriter.incrementRetryCount(request.getRequestId(), e.getMessage(), backoffMillis);
+            request.setStatus("PENDING");         // Job 상태 처리중
+        } else {
+            if (e instanceof SafetyBlockException) { // (A) 안전 설정 차단으로 인한 실패인 경우 -> 검수 반려(COMPLETED/FAILED)로 처리
+                InspectionResult result = ((SafetyBlockException) e).getResult();
+                log.warn("!! request_id: {} 안전 설정 차단 재시도 횟수 초과. 검수 반려 처리합니다.", request.getRequestId());
+
+                resultWriter.updateFinalStatus(
+                    request.getRequestId(), 
+                    "COMPLETED",         // status: 완료됨
+                    "FAILED",            // inspectionStatus: 검수 실패(반려)
+                    result.getForbiddenWord(), 
+                    result.getReason()   // 원래의 차단 사유 저장
+                );
+                
+                // 메모리 객체 업데이트 (결과 전송을 위해 필수)
+                request.setForbiddenWord(result.getForbiddenWord());
+                request.setErrorMessage(result.getReason());
+            } else if (e instanceof InspectionRejectedException) { // (B) [추가] 일반 반려로 인한 재시도 횟수 초과인 경우
+                InspectionResult result = ((InspectionRejectedException) e).getResult();
+                log.warn("!! request_id: {} 검수 반려 재시도 횟수 초과. 최종 반려 처리합니다.", request.getRequestId());
+
+                resultWriter.updateFinalStatus(
+                    request.getRequestId(), "COMPLETED", "FAILED", result.getForbiddenWord(), result.getReason()
+                );
+                request.setForbiddenWord(result.getForbiddenWord());
+                request.setErrorMessage(result.getReason());
+                // 재시도를 모두 거친 최종 반려는 다음 배치에서 변경 없는 상품에 재사용합니다.
+                resultCache.save(request.getResultFingerprint(), result);
             } else {
-                if (e instanceof SafetyBlockException) { // (A) 안전 설정 차단으로 인한 실패인 경우 -> 검수 반려(COMPLETED/FAILED)로 처리
-                    InspectionResult result = ((SafetyBlockException) e).getResult();
-                    log.warn("!! request_id: {} 안전 설정 차단 재시도 횟수 초과. 검수 반려 처리합니다.", request.getRequestId());
-
-                    goodsBatchRequestRepository.updateFinalStatus(
-                        request.getRequestId(), 
-                        "COMPLETED",         // status: 완료됨
-                        "FAILED",            // inspectionStatus: 검수 실패(반려)
-                        result.getForbiddenWord(), 
-                        result.getReason()   // 원래의 차단 사유 저장
-                    );
-                    
-                    // 메모리 객체 업데이트 (결과 전송을 위해 필수)
-                    request.setForbiddenWord(result.getForbiddenWord());
-                    request.setErrorMessage(result.getReason());
-                } else if (e instanceof InspectionRejectedException) { // (B) [추가] 일반 반려로 인한 재시도 횟수 초과인 경우
-                    InspectionResult result = ((InspectionRejectedException) e).getResult();
-                    log.warn("!! request_id: {} 검수 반려 재시도 횟수 초과. 최종 반려 처리합니다.", request.getRequestId());
-
-                    goodsBatchRequestRepository.updateFinalStatus(
-                        request.getRequestId(), "COMPLETED", "FAILED", result.getForbiddenWord(), result.getReason()
-                    );
-                    request.setForbiddenWord(result.getForbiddenWord());
-                    request.setErrorMessage(result.getReason());
-                } else {
-                	// 2. 실패 확정 로직 (최대 횟수 초과)
-                	String finalErrorMessage = e.getMessage(); // 기본값: 예외 메시지
-
-                    // [개선 1] WebClient 에러인 경우 JSON 파싱 시도
-                    if (e instanceof WebClientResponseException wce) {
-                        String responseBody = wce.getResponseBodyAsString(StandardCharsets.UTF_8);
-                        try {
-                            // 예상 구조: { "error": { "message": "Provided image is not valid.", ... } }
-                            JsonNode rootNode = objectMapper.readTree(responseBody);
-                            
-                            if (rootNode.path("error").path("message").isTextual()) {
-                                finalErrorMessage = rootNode.path("error").path("message").asText();
-                            } else {
-                                finalErrorMessage = responseBody;
-                            }
-                        } catch (Exception jsonEx) {
+            	// 2. 실패 확정 로직 (최대 횟수 초과)
+            	String finalErrorMessage = e.getMessage(); // 기본값: 예외 메시지
+
+                // [개선 1] WebClient 에러인 경우 JSON 파싱 시도
+                if (e instanceof WebClientResponseException wce) {
+                    String responseBody = wce.getResponseBodyAsString(StandardCharsets.UTF_8);
+                    try {
+                        // 예상 구조: { "error": { "message": "Provided image is not valid.", ... } }
+                        JsonNode rootNode = objectMapper.readTree(responseBody);
+                        
+                        if (rootNode.path("error").path("message").isTextual()) {
+                            finalErrorMessage = rootNode.path("error").path("message").asText();
+                        } else {
                             finalErrorMessage = responseBody;
                         }
+                    } catch (Exception jsonEx) {
+                        finalErrorMessage = responseBody;
                     }
-                    
-                    if (finalErrorMessage != null && finalErrorMessage.length() > 200) {
-                        finalErrorMessage = finalErrorMessage.substring(0, 195) + "...";
-                    }
-
-                    // 로그에는 원본 예외와 추출한 메시지를 모두 남김
-                    log.error("!! request_id: {} 최종 실패. ErrorMsg: {}", request.getRequestId(), finalErrorMessage, e);
-                    
-                    goodsBatchRequestRepository.updateFinalStatus(
-                        request.getRequestId(), 
-                        "COMPLETED", 
-                        "FAILED", 
-                        null, 
-                        finalErrorMessage
-                    );
-
-                    // 메모리 객체 업데이트
-                    request.setErrorMessage(finalErrorMessage);
                 }
                 
+                if (finalErrorMessage != null && finalErrorMessage.length() > 200) {
+                    finalErrorMessage = finalErrorMessage.substring(0, 195) + "...";
+                }
+
+                // 로그에는 원본 예외와 추출한 메시지를 모두 남김
+                log.error("!! request_id: {} 최종 실패. ErrorMsg: {}", request.getRequestId(), finalErrorMessage, e);
+                
+                resultWriter.updateFinalStatus(
+                    request.getRequestId(), 
+                    "COMPLETED", 
+                    "FAILED", 
+                    null, 
+                    finalErrorMessage
+                );
+
+                // 메모리 객체 업데이트
+                request.setErrorMessage(finalErrorMessage);
+            }
+            
+        }
+    }
+
+    /**
+     * 검수 스레드 풀이 작업을 거절한 요청을 재시도 횟수 차감 없이 PENDING으로 되돌리고, 기록이 끝나면 heartbeat 대상에서 제외합니다.
+     * (요청 자체의 실패가 아니므로 임대 만료까지 PROCESSING으로 묶어 두지 않습니다.)
+     * @param request 선점된 요청
+     */
+    public void releaseRejectedRequest(GoodsBatchRequest request, RejectedExecutionException e) {
+        log.warn("!! request_id: {} 검수 스레드 풀이 작업을 거절했습니다. 재시도 횟수 차감 없이 PENDING으로 되돌립니다. !! {}",
+                 request.getRequestId(), e.getMessage());
+        resultWriter.releaseClaim(request.getRequestId(), "검수 스레드 풀 작업 거절", 0);
+        request.setStatus("PENDING");
+        releaseLeaseWhenWritten(request);
+    }
+
+    private AiProviderUnavailableException findProviderUnavailable(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof AiProviderUnavailableException unavailable) {
+                return unavailable;
+            }
+            if (cause.getCause() == cause) {
+                break;
             }
-        } finally {
-            log.info("--- request_id: {} 검수 처리 종료 ---", request.getRequestId());
         }
+        return null;
+    }
+
+    /**
+     * 검수가 끝난 요청의 결과 기록이 커밋되면 heartbeat 대상에서 제외하고, 최종 상태가 확정된 요청은 결과 전송 대기열에 추가합니다.
+     * 기록 전에 임대를 놓거나 결과를 전송하면, 기록 전에 임대가 만료되어 다시 검수되는 요청이 이미 완료로 전송될 수 있습니다.
+     * 임대를 잃었거나 기록하지 못한 요청은 전송하지 않습니다. (임대 만료 후 다시 검수됨)
+     */
+    private void finishInspection(GoodsBatchRequest request) {
+        log.info("--- request_id: {} 검수 처리 종료 ---", request.getRequestId());
+        releaseLeaseWhenWritten(request).thenAccept(written -> {
+            if (!written) {
+                log.warn("request_id: {} - 검수 결과가 기록되지 않아 결과를 전송하지 않습니다.", request.getRequestId());
+            } else if ("COMPLETED".equals(request.getStatus()) || "FAILED".equals(request.getStatus())) {
+                pendingResultQueue.add(request);
+            }
+        });
+    }
+
+    /**
+     * 요청의 마지막 결과 기록이 끝나면(커밋, 임대 상실, 격리 모두) heartbeat 대상에서 제외합니다.
+     * @return 기록이 커밋되면 true로 완료되는 future
+     */
+    private CompletableFuture<Boolean> releaseLeaseWhenWritten(GoodsBatchRequest request) {
+        return resultWriter.whenWritten(request.getRequestId())
+                .whenComplete((written, e) -> leaseManager.release(request.getRequestId()));
+    }
+
+    // AI 호출 전 준비된 검수 입력값
+    private record PreparedInspection(Goods goods, List<FileContent> files, String forbiddenWords) {
+    }
+
+    // 단계별 파이프라인: 다운로드 단계 결과
+    private record DownloadedInspection(Goods goods, MultipartFile[] images, String forbiddenWords) {
+    }
+
+    /**
+     * 선점된 요청 1건을 단계별 스레드 풀로 나누어 검수합니다. (batch.pipeline.staged-yn=Y)
+     * 다운로드(네트워크) → 이미지 분할/변환(CPU) → AI 호출 단계가 각자의 스레드 풀에서 실행되므로,
+     * CPU 작업과 네트워크 대기가 같은 스레드를 두고 경쟁하지 않습니다.
+     * @return 처리가 끝난 요청 (실패한 경우에도 정상 완료됩니다)
+     */
+    private CompletableFuture<GoodsBatchRequest> runStagedInspection(GoodsBatchRequest request) {
+        log.debug("--- request_id: {} 검수 처리 시작 (단계별 파이프라인) ---", request.getRequestId());
+        return CompletableFuture
+                // 1단계(다운로드): 금칙어 조회, 이미지 다운로드
+                .supplyAsync(() -> downloadStage(request), inspectionDownloadExecutor)
+                // 2단계(이미지): 분할, 흑백 WebP 변환
+                .thenApplyAsync(downloaded -> downloaded == null ? null : imageStage(downloaded), inspectionImageExecutor)
+                // 3단계(AI): AI 호출 및 결과 반영
+                .thenAcceptAsync(prepared -> {
+                    if (prepared != null) {
+                        inspectStage(request, prepared);
+                    }
+                }, inspectionTaskExecutor)
+                .handle((ignored, e) -> {
+                    try {
+                        Throwable cause = e != null ? unwrapCompletionException(e) : null;
+                        if (cause instanceof RejectedExecutionException rejected) {
+                            // AI 단계 스레드 풀이 거절한 경우: 요청의 실패가 아니므로 재시도 횟수를 차감하지 않습니다.
+                            releaseRejectedRequest(request, rejected);
+                        } else if (cause != null) {
+                            handleInspectionFailure(request, cause);
+                        }
+                    } finally {
+                        finishInspection(request);
+                    }
+                    return request;
+                });
+    }
+
+    private DownloadedInspection downloadStage(GoodsBatchRequest request) {
+        Goods goods = request.toGoodsEntity();
+        // 금칙어가 없으면 이미지를 받을 필요가 없으므로 먼저 조회합니다.
+        String forbiddenWords = findForbiddenWords(goods);
+        if (forbiddenWords.length() <= 0) {
+            completeWithoutForbiddenWords(request);
+            return null;
+        }
+        try {
+            MultipartFile[] images = downloadImages(request);
+            // 입력이 같은 확정 결과가 있으면 이미지 단계와 AI 단계를 건너뜁니다.
+            if (applyCachedResult(request, goods, images, forbiddenWords, inspectService.getInspectorId())) {
+                return null;
+            }
+            return new DownloadedInspection(goods, images, forbiddenWords);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private PreparedInspection imageStage(DownloadedInspection downloaded) {
+        try {
+            return new PreparedInspection(downloaded.goods(), convertImagesForInspection(downloaded.images()), downloaded.forbiddenWords());
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private void inspectStage(GoodsBatchRequest request, PreparedInspection prepared) {
+        InspectionResult inspectionResult;
+        try {
+            inspectionResult = performAiInspection(prepared);
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+        log.debug("AI API 호출 결과: 승인여부 = {}, 사유 = {}", inspectionResult.isApproved(), inspectionResult.getReason());
+        applyInspectionResult(request, inspectionResult);
+    }
+
+    private Throwable unwrapCompletionException(Throwable e) {
+        Throwable cause = e;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
     }
     
     @Async
@@ -411,50 +715,354 @@ public class GoodsBatchService {
     	}
     	
     	log.info("===== 배치 검수 스케줄러 시작 (Thread: {}) =====", Thread.currentThread().getName());
-    	
-        // 1. 처리할 PENDING 상태의 요청을 {batchCount}개 가져옵니다.
-        List<GoodsBatchRequest> pendingRequests = goodsBatchRequestRepository.findPendingRequests(batchCount);
+
+        // 검수 실행기가 받을 수 있는 건수(남은 스레드 + 남은 대기 큐)까지만 선점합니다.
+        // (초과분은 제출 즉시 거절되어 선점/해제만 반복하므로, 남은 요청은 다음 실행에서 선점합니다.)
+        int capacity = availableExecutorCapacity();
+        if (batchCount > capacity) {
+            log.info("검수 실행기 여유가 {}건이므로 선점 건수를 {}건에서 줄입니다.", capacity, batchCount);
+            batchCount = capacity;
+        }
+        if (batchCount <= 0) {
+            flushBatchResults();
+            log.info("===== 배치 검수 스케줄러 종료 (검수 실행기 여유 없음) =====");
+            return;
+        }
+
+        // 1~2. 처리할 PENDING 상태의 요청을 {batchCount}개까지 'PROCESSING'으로 원자적으로 선점합니다.
+        //      (FOR UPDATE SKIP LOCKED: 다른 노드나 중복 실행된 스케줄러가 같은 요청을 가져가지 않음)
+        List<GoodsBatchRequest> pendingRequests = claimPendingRequests(batchCount);
         if (pendingRequests.isEmpty()) {
             log.info("처리할 배치 검수 요청이 없습니다.");
+            // 이전 실행에서 기록이 늦어진 요청의 결과는 전송합니다.
+            flushBatchResults();
             log.info("===== 배치 검수 스케줄러 종료 =====");
             return;
         }
+        log.info("{}건의 요청을 PROCESSING 상태로 선점했습니다. (node: {})", pendingRequests.size(), leaseManager.getNodeId());
+
+        // 3. 각 요청을 공용 검수 스레드 풀(inspectionTaskExecutor)에서 CompletableFuture로 병렬 실행
+        //    (풀은 애플리케이션 전체에서 공유하므로 실행마다 생성/종료하지 않습니다.)
+        //    (batch.pipeline.staged-yn=Y이면 다운로드/이미지/AI 단계별 스레드 풀로 나누어 실행)
+        //    (풀이 작업을 거절한 요청은 재시도 횟수 차감 없이 PENDING으로 되돌리고 나머지 요청은 계속 제출합니다.)
+        List<CompletableFuture<?>> futures = pendingRequests.stream()
+            .map(request -> isStagedPipeline()
+                ? runStagedInspection(request)
+                : submitSingleRequest(request))
+            .collect(Collectors.toList());
+
+        // 4. 모든 병렬 작업이 완료될 때까지 대기
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        // 5. 남은 검수 결과를 기록하고, 기록이 커밋되어 전송 대기열에 들어간 요청의 결과를 전송
+        //    (DB 장애로 기록하지 못한 요청은 기록된 뒤 다음 실행에서 전송됩니다.)
+        resultWriter.flush();
+        flushBatchResults();
+        
+        log.info("===== 배치 검수 스케줄러 종료 =====");
+    }
 
-        // 2. 가져온 요청들을 'PROCESSING' 상태로 변경하여 다른 스케줄러가 중복 처리하는 것을 방지합니다.
-        List<Long> requestIds = pendingRequests.stream().map(GoodsBatchRequest::getRequestId).collect(Collectors.toList());
-        goodsBatchRequestRepository.updateStatusToProcessing(requestIds);
-        log.info("{}건의 요청을 PROCESSING 상태로 변경했습니다.", requestIds.size());
+    /**
+     * 검수 작업을 처음 받는 실행기(단계별 파이프라인이면 다운로드 단계)가 거절 없이 받을 수 있는 작업 수를 반환합니다.
+     * @return 남은 스레드 수 + 남은 대기 큐 자리 (크기 제한 없이 대기시키는 virtual 실행기는 Integer.MAX_VALUE)
+     */
+    private int availableExecutorCapacity() {
+        AsyncTaskExecutor entryExecutor = isStagedPipeline() ? inspectionDownloadExecutor : inspectionTaskExecutor;
+        if (entryExecutor instanceof ThreadPoolTaskExecutor pool) {
+            ThreadPoolExecutor executor = pool.getThreadPoolExecutor();
+            return Math.max(0, executor.getMaximumPoolSize() - executor.getActiveCount())
+                    + executor.getQueue().remainingCapacity();
+        }
+        return Integer.MAX_VALUE;
+    }
 
-        // 3. 2개의 스레드만 사용하는 Executor 생성 (또는 Bean 주입)
-        ExecutorService executor = Executors.newFixedThreadPool(MULTI_THREAD_COUNT);
+    private CompletableFuture<?> submitSingleRequest(GoodsBatchRequest request) {
+        try {
+            // 기존 for문 내부의 로직을 수행할 별도 메서드 호출
+            return CompletableFuture.runAsync(() -> processSingleRequest(request), inspectionTaskExecutor);
+        } catch (RejectedExecutionException e) {
+            releaseRejectedRequest(request, e);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * 오늘자 S3 데이터 수집이 완료되어 검수를 시작해도 되는지 확인합니다.
+     * @return 오늘 배치 인입 상태가 SUCCESS이면 true
+     */
+    public boolean isInspectionReady() {
+        String todayDate = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        return "SUCCESS".equals(getBatchInStatus(todayDate));
+    }
+
+    /**
+     * PENDING 요청을 최대 limit건 선점하고, 처리가 끝날 때까지 임대를 연장하도록 heartbeat 대상으로 등록합니다.
+     * @param limit 선점할 최대 개수
+     * @return 선점한 요청 리스트
+     */
+    public List<GoodsBatchRequest> claimPendingRequests(int limit) {
+        List<GoodsBatchRequest> claimedRequests = goodsBatchRequestRepository.claimPendingRequests(
+                limit, leaseManager.getNodeId(), leaseManager.getLeaseSeconds());
+        if (!claimedRequests.isEmpty()) {
+            leaseManager.track(claimedRequests.stream().map(GoodsBatchRequest::getRequestId).toList());
+        }
+        return claimedRequests;
+    }
+
+    /**
+     * 선점된 요청 1건을 검수합니다. 최종 상태가 확정된 요청은 결과 기록이 커밋되면 결과 전송 대기열에 추가됩니다.
+     * (연속 디스패처에서 호출)
+     * @param request 선점된 요청
+     */
+    public void processClaimedRequest(GoodsBatchRequest request) {
+        processSingleRequest(request);
+    }
+
+    /**
+     * 선점된 요청 1건을 단계별 파이프라인으로 검수합니다. 최종 상태가 확정된 요청은 결과 기록이 커밋되면 결과 전송 대기열에 추가됩니다.
+     * (batch.pipeline.staged-yn=Y일 때 연속 디스패처에서 호출)
+     * @param request 선점된 요청
+     * @return 검수가 끝나면 완료되는 future
+     */
+    public CompletableFuture<GoodsBatchRequest> processClaimedRequestStaged(GoodsBatchRequest request) {
+        return runStagedInspection(request);
+    }
+
+    public boolean isStagedPipeline() {
+        return "Y".equalsIgnoreCase(stagedPipelineYn);
+    }
+
+    /**
+     * 선점된 요청 1건을 논블로킹으로 검수합니다. (reactive 디스패처에서 호출)
+     * 파일/DB I/O가 있는 준비 단계와 결과 기록은 boundedElastic에서, AI 호출은 이벤트 루프에서 대기 없이 수행됩니다.
+     * @param request 선점된 요청
+     * @return 처리가 끝난 요청 (실패한 경우에도 오류 없이 완료됩니다)
+     */
+    public Mono<GoodsBatchRequest> processClaimedRequestReactive(GoodsBatchRequest request) {
+        return Mono.fromCallable(() -> {
+                    log.debug("--- request_id: {} 검수 처리 시작 ---", request.getRequestId());
+                    return prepareInspection(request, inspectService.getInspectorId());
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(this::performAiInspectionReactive)
+                // 결과 기록은 버퍼가 가득 차면 JDBC flush가 일어날 수 있으므로 이벤트 루프에서 벗어나 처리합니다.
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(inspectionResult -> {
+                    log.debug("AI API 호출 결과: 승인여부 = {}, 사유 = {}", inspectionResult.isApproved(), inspectionResult.getReason());
+                    applyInspectionResult(request, inspectionResult);
+                })
+                .then()
+                .onErrorResume(e -> {
+                    handleInspectionFailure(request, e);
+                    return Mono.empty();
+                })
+                .doFinally(signal -> finishInspection(request))
+                .thenReturn(request);
+    }
 
+    /**
+     * PENDING 요청을 최대 limit건 선점하여 일괄 처리(Batch) 작업 1개로 제출합니다. (batch.dispatcher.mode=bulk)
+     * 제출한 요청은 'SUBMITTED' 상태가 되고 임대가 해제되며, 결과는 collectBulkInspections에서 반영합니다.
+     * @param limit 작업 1개에 담을 최대 요청 건수
+     * @return 선점한 요청 건수 (선점할 요청이 없으면 0)
+     */
+    public int submitBulkInspection(int limit) {
+        List<GoodsBatchRequest> claimedRequests = claimPendingRequests(limit);
+        if (claimedRequests.isEmpty()) {
+            return 0;
+        }
+
+        List<GoodsBatchRequest> submittedRequests = new ArrayList<>();
+        String displayName = "goods-inspection-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+        BulkInspectBatchService bulkInspectService = bulkInspectService(bulkProvider);
+        try (BulkInspectBatchService.BulkSubmission submission = bulkInspectService.newSubmission(displayName)) {
+            // 1. 요청별 이미지/금칙어를 준비하여 작업 입력에 추가합니다. (준비 중 오류는 요청 단위로 재시도 처리)
+            for (GoodsBatchRequest request : claimedRequests) {
+                try {
+                    PreparedInspection prepared = prepareInspection(request, bulkInspectService.getInspectorId());
+                    if (prepared == null) {
+                        finishInspection(request);
+                        continue;
+                    }
+                    submission.add(String.valueOf(request.getRequestId()), prepared.goods(), prepared.files(), prepared.forbiddenWords());
+                    submittedRequests.add(request);
+                } catch (Exception e) {
+                    handleInspectionFailure(request, e);
+                    finishInspection(request);
+                }
+            }
+            if (submittedRequests.isEmpty()) {
+                return claimedRequests.size();
+            }
+
+            // 2. 업로드 후 작업을 생성하고, 요청에 "제공자:작업 이름"을 기록합니다. (설정이 바뀌어도 제출한 제공자에서 결과를 조회)
+            String jobName = submission.submit();
+            String aiBatchName = bulkInspectService.getProvider() + ":" + jobName;
+            if (!markSubmitted(submittedRequests, aiBatchName)) {
+                // 작업은 이미 생성되었으므로 일반 실패처럼 재시도하면 같은 요청이 두 번 과금됩니다.
+                // 원격 작업을 취소한 뒤 재시도 횟수 차감 없이 PENDING으로 되돌립니다.
+                cancelBulkJob(bulkInspectService, aiBatchName, jobName);
+                for (GoodsBatchRequest request : submittedRequests) {
+                    resultWriter.releaseClaim(request.getRequestId(), "일괄 처리 작업 제출 기록 실패", 0);
+                    request.setStatus("PENDING");
+                    finishInspection(request);
+                }
+                return claimedRequests.size();
+            }
+            for (GoodsBatchRequest request : submittedRequests) {
+                request.setStatus("SUBMITTED");
+                finishInspection(request);
+            }
+            log.info("{}건의 검수 요청을 일괄 처리 작업({})으로 제출했습니다.", submittedRequests.size(), aiBatchName);
+        } catch (Exception e) {
+            log.error("!! 일괄 처리 작업 제출 중 오류 발생 ({}건) !!", submittedRequests.size(), e);
+            for (GoodsBatchRequest request : submittedRequests) {
+                handleInspectionFailure(request, e);
+                finishInspection(request);
+            }
+        }
+        return claimedRequests.size();
+    }
+
+    /**
+     * 제출한 요청들을 'SUBMITTED'로 기록합니다. 작업 생성 후 기록에 실패하면 결과를 반영할 수 없으므로 몇 번 더 시도합니다.
+     * 임대를 잃은 요청(다른 노드가 다시 선점)은 기록되지 않으며, 해당 요청의 작업 결과는 수집 시 반영되지 않습니다.
+     * @return 기록에 성공하면 true
+     */
+    private boolean markSubmitted(List<GoodsBatchRequest> submittedRequests, String aiBatchName) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                int[] counts = goodsBatchRequestRepository.markSubmitted(submittedRequests, aiBatchName, leaseManager.getNodeId());
+                for (int i = 0; i < counts.length; i++) {
+                    if (counts[i] == 0) {
+                        log.warn("임대를 잃어 일괄 처리 작업({}) 제출을 기록하지 않았습니다. (요청 ID: {})",
+                                aiBatchName, submittedRequests.get(i).getRequestId());
+                    }
+                }
+                return true;
+            } catch (Exception e) {
+                log.error("!! 일괄 처리 작업({}) 제출 기록 실패 ({}/{}회) !!", aiBatchName, attempt, MARK_SUBMITTED_ATTEMPTS, e);
+                if (attempt >= MARK_SUBMITTED_ATTEMPTS) {
+                    return false;
+                }
+            }
+            try {
+                Thread.sleep(MARK_SUBMITTED_RETRY_INTERVAL_MS * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    private void cancelBulkJob(BulkInspectBatchService bulkInspectService, String aiBatchName, String jobName) {
         try {
-            // 4. 각 요청을 CompletableFuture로 감싸서 병렬 실행
-            List<CompletableFuture<Void>> futures = pendingRequests.stream()
-                .map(request -> CompletableFuture.runAsync(() -> {
-                    // 기존 for문 내부의 로직을 수행할 별도 메서드 호출
-                    processSingleRequest(request);
-                }, executor))
-                .collect(Collectors.toList());
-
-            // 5. 모든 병렬 작업이 완료될 때까지 대기
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
-            
-        } finally {
-            // 6. 사용이 끝난 executor는 반드시 종료해줘야 리소스가 반환됩니다.
-            executor.shutdown();
+            bulkInspectService.cancelJob(jobName);
+            log.warn("제출 기록에 실패한 일괄 처리 작업({})을 취소했습니다.", aiBatchName);
+        } catch (Exception e) {
+            log.error("!! 일괄 처리 작업({}) 취소 실패. 작업이 계속 진행되면 수동으로 취소해야 합니다. !!", aiBatchName, e);
         }
-        
-        List<GoodsBatchRequest> completedRequests = pendingRequests.stream()
-        	    .filter(el -> "COMPLETED".equals(el.getStatus()) || "FAILED".equals(el.getStatus()))
-        	    .toList();
-        
-        if("Y".equals(sendResultYn)) {
-        	// 결과전송 메서드 호출
+    }
+
+    /**
+     * 결과를 기다리는 일괄 처리 작업의 상태를 확인하고, 끝난 작업의 결과를 요청별로 반영합니다.
+     * 작업이 실패했거나 결과에 없는 요청은 일반 검수 실패와 같이 재시도 처리됩니다.
+     * @return 아직 진행 중인 작업 수
+     */
+    public int collectBulkInspections() {
+        int runningJobs = 0;
+        for (String aiBatchName : goodsBatchRequestRepository.findSubmittedBatchNames()) {
+            try {
+                if (!collectBulkInspection(aiBatchName)) {
+                    runningJobs++;
+                }
+            } catch (Exception e) {
+                // 상태 조회/결과 다운로드 실패는 다음 주기에 다시 시도합니다.
+                log.error("!! 일괄 처리 작업({}) 결과 반영 중 오류 발생 !!", aiBatchName, e);
+                runningJobs++;
+            }
+        }
+        return runningJobs;
+    }
+
+    /**
+     * @return 작업이 끝나 결과를 반영했으면 true, 아직 진행 중이면 false
+     */
+    private boolean collectBulkInspection(String aiBatchName) throws IOException {
+        // "제공자:" 접두어가 없는 작업 이름은 제공자를 기록하기 전(Gemini만 지원하던 때)에 제출된 작업입니다.
+        int separator = aiBatchName.indexOf(':');
+        String provider = separator > 0 ? aiBatchName.substring(0, separator) : LEGACY_BULK_PROVIDER;
+        BulkInspectBatchService bulkInspectService = bulkInspectService(provider);
+        BulkJobStatus jobStatus = bulkInspectService.getJobStatus(aiBatchName.substring(separator + 1));
+        if (jobStatus.getState() == BulkJobStatus.State.RUNNING) {
+            log.debug("일괄 처리 작업 {} 진행 중", aiBatchName);
+            return false;
+        }
+
+        // 결과를 먼저 내려받은 뒤 선점하므로, 다운로드에 실패해도 요청은 SUBMITTED 상태로 남아 다음 주기에 다시 시도됩니다.
+        Map<String, BulkInspectionResult> results = new HashMap<>();
+        if (jobStatus.getState() == BulkJobStatus.State.SUCCEEDED) {
+            for (BulkInspectionResult result : bulkInspectService.fetchResults(jobStatus)) {
+                results.putIfAbsent(result.getKey(), result);
+            }
+        } else {
+            log.warn("!! 일괄 처리 작업 {} 실패: {}. 포함된 요청을 재시도 처리합니다. !!", aiBatchName, jobStatus.getMessage());
+        }
+
+        List<GoodsBatchRequest> requests = goodsBatchRequestRepository.claimSubmittedRequests(
+                aiBatchName, leaseManager.getNodeId(), leaseManager.getLeaseSeconds());
+        if (requests.isEmpty()) {
+            return true; // 다른 노드가 이미 반영
+        }
+        leaseManager.track(requests.stream().map(GoodsBatchRequest::getRequestId).toList());
+
+        for (GoodsBatchRequest request : requests) {
+            try {
+                if (jobStatus.getState() == BulkJobStatus.State.FAILED) {
+                    throw new IllegalStateException("일괄 처리 작업 실패: " + jobStatus.getMessage());
+                }
+                BulkInspectionResult result = results.get(String.valueOf(request.getRequestId()));
+                if (result == null) {
+                    throw new IllegalStateException("일괄 처리 결과에 요청이 없습니다. (작업: " + aiBatchName + ")");
+                }
+                if (result.getResult() == null) {
+                    throw new IllegalStateException(result.getErrorMessage());
+                }
+                applyInspectionResult(request, result.getResult());
+            } catch (Exception e) {
+                handleInspectionFailure(request, e);
+            } finally {
+                finishInspection(request);
+            }
+        }
+        log.info("일괄 처리 작업 {} 결과 반영 완료 ({}건)", aiBatchName, requests.size());
+        return true;
+    }
+
+    private BulkInspectBatchService bulkInspectService(String provider) {
+        return bulkInspectServices.stream()
+                .filter(service -> service.getProvider().equalsIgnoreCase(provider))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("일괄 처리를 지원하지 않는 AI 제공자입니다: " + provider));
+    }
+
+    /**
+     * 결과 전송 대기열에 쌓인 요청들을 한 번에 콜백 URL로 전송합니다.
+     */
+    public void flushBatchResults() {
+        List<GoodsBatchRequest> completedRequests = new ArrayList<>();
+        GoodsBatchRequest request;
+        while ((request = pendingResultQueue.poll()) != null) {
+            completedRequests.add(request);
+        }
+
+        if (completedRequests.isEmpty()) {
+            return;
+        }
+
+        if ("Y".equals(sendResultYn)) {
             sendBatchResult(completedRequests);
         }
-        
-        log.info("===== 배치 검수 스케줄러 종료 =====");
     }
 
     /**
@@ -493,9 +1101,8 @@ public class GoodsBatchService {
 	        // [기존] 1. 메인 콜백 서버로 상세 결과 전송
 	        // -------------------------------------------------------
 	    	log.info("3. WebClient를 사용하여 콜백 URL로 결과 전송 시작. URL: {}", callbackUrl);
-	        WebClient webClient = webClientBuilder.build();
 	
-	        webClient.post()
+	        callbackWebClient.post()
 	                 .uri(callbackUrl)
 	                 .contentType(MediaType.APPLICATION_JSON)
 	                 .body(Mono.just(jsonPayload), String.class)
@@ -543,8 +1150,7 @@ public class GoodsBatchService {
 	    	monitoringBody.put("monitoringName", "ai 검수결과 (" + today + ")");
 	    	monitoringBody.put("count", payloadSize);
 	        
-	        WebClient webClient = webClientBuilder.build();
-	        webClient.post()
+	        callbackWebClient.post()
 	                 .uri(monitoringUrl)
 	                 .contentType(MediaType.APPLICATION_JSON)
 	                 .bodyValue(monitoringBody)
@@ -568,42 +1174,16 @@ public class GoodsBatchService {
 	}
     
     /**
-     * GoodsBatchRequest에 저장된 파일 경로들로부터 실제 파일 내용을 읽어 FileContent 리스트를 생성합니다.
+     * image_html의 이미지 URL들을 다운로드합니다. (네트워크 I/O)
      */
-    private List<FileContent> readFilesFromPaths(GoodsBatchRequest request) throws IOException {
-        List<FileContent> fileContents = new ArrayList<>();
-
-        // 1. 대표 이미지 읽기
-//        String repPath = request.getRepresentativeFile(); // https://img.shoppingntmall.com + /goods/783/23978783_h.jpg
-//        if (repPath != null && !repPath.isEmpty()) {
-//            
-//            // 1-1. 이미지 다운로드 (s3서버에서 다운로드)
-//            List<String> imageUrlList = Arrays.stream(repPath.split(","))
-//                    .map(path -> downloadUrl + path.trim().replace(" ", "%20")) // 각 경로 앞에 URL 붙이기 및 공백 제거
-//                    .collect(Collectors.toList());
-//            
-//            MultipartFile[] downloadedFiles = imageDownloadService.downloadImagesAsMultipartFiles(imageUrlList);
-//            
-//            // 1-2. 분할된 이미지를 FileContent로 변환
-//            for (MultipartFile file : downloadedFiles) {
-//            	// GIF 파일은 AI 검수에서 제외 (Unsupported MIME type 에러 방지)
-//                if (file.getContentType() != null && file.getContentType().toLowerCase().contains("image/gif")) {
-//                    log.warn("GIF 이미지는 AI 검수 대상에서 제외됩니다. 파일명: {}", file.getOriginalFilename());
-//                    continue;
-//                }
-//                
-//                byte[] grayscaleBytes = convertToGrayscale(file.getBytes(), file.getOriginalFilename());                
-//                fileContents.add(new FileContent(file.getOriginalFilename(), file.getContentType(), grayscaleBytes));
-//            }
-//        }
-        
-        // 2. image_html의 URL들을 읽어 다운로드
+    private MultipartFile[] downloadImages(GoodsBatchRequest request) throws IOException {
         String imageUrls = request.getImageHtml();
-        if (imageUrls != null && !imageUrls.isEmpty()) {
-            // 2-1. 다운로드된 이미지 분할
-            List<String> imageUrlList = Arrays.asList(imageUrls.split(","));
+        if (imageUrls == null || imageUrls.isEmpty()) {
+            return new MultipartFile[0];
+        }
+        List<String> imageUrlList = Arrays.asList(imageUrls.split(","));
 
-            // S3 객체 메타데이터 조회 및 생성 일시 로깅
+        // S3 객체 메타데이터 조회 및 생성 일시 로깅
 //            for (String urlStr : imageUrlList) {
 //                try {
 //                    // URL에서 S3 Key 추출 (URL이 http 경로라고 가정하고 path 부분만 추출)
@@ -613,42 +1193,51 @@ public class GoodsBatchService {
 //                    log.warn("S3 메타데이터(생성일시) 조회 실패 - URL: {}, 에러: {}", urlStr, e.getMessage());
 //                }
 //            }
+        
+        return imageDownloadService.downloadImagesAsMultipartFiles(imageUrlList);
+    }
+
+    /**
+     * 다운로드한 이미지를 기준 높이로 분할하고 흑백 WebP로 변환하여 FileContent 리스트를 생성합니다. (CPU 작업)
+     */
+    private List<FileContent> convertImagesForInspection(MultipartFile[] downloadedFiles) throws IOException {
+        List<FileContent> fileContents = new ArrayList<>();
+        if (downloadedFiles == null || downloadedFiles.length == 0) {
+            return fileContents;
+        }
+
+        MultipartFile[] splittedImages = imageSplittingService.splitImages(downloadedFiles, 1600); // 1600px 높이로 분할
+
+        // 2-2. 분할된 이미지를 FileContent로 변환
+        for (MultipartFile file : splittedImages) {
+        	// GIF 파일은 AI 검수에서 제외 (Unsupported MIME type 에러 방지)
+            if (file.getContentType() != null && file.getContentType().toLowerCase().contains("image/gif")) {
+                log.warn("GIF 이미지는 AI 검수 대상에서 제외됩니다. 파일명: {}", file.getOriginalFilename());
+                continue;
+            }
+
+            byte[] originalBytes = file.getBytes();
+            String originalMimeType = file.getContentType();
+            String originalFileName = file.getOriginalFilename(); // 원본 파일명 보관
             
-            MultipartFile[] downloadedFiles = imageDownloadService.downloadImagesAsMultipartFiles(imageUrlList);
-            
-            MultipartFile[] splittedImages = imageSplittingService.splitImages(downloadedFiles, 1600); // 1600px 높이로 분할
-
-            // 2-2. 분할된 이미지를 FileContent로 변환
-            for (MultipartFile file : splittedImages) {
-            	// GIF 파일은 AI 검수에서 제외 (Unsupported MIME type 에러 방지)
-                if (file.getContentType() != null && file.getContentType().toLowerCase().contains("image/gif")) {
-                    log.warn("GIF 이미지는 AI 검수 대상에서 제외됩니다. 파일명: {}", file.getOriginalFilename());
-                    continue;
-                }
+            // 1. 흑백 + WebP 변환 시도
+            byte[] processedBytes = convertToGrayscaleWebP(originalBytes, file.getOriginalFilename());
 
-                byte[] originalBytes = file.getBytes();
-                String originalMimeType = file.getContentType();
-                String originalFileName = file.getOriginalFilename(); // 원본 파일명 보관
+            if (processedBytes != null) {
+                // [수정] 변환 성공 시 파일명 확장자도 .webp로 변경
+                String newFileName = renameToWebp(originalFileName);
+                log.debug("파일명 변경: {} -> {}", originalFileName, newFileName);
                 
-                // 1. 흑백 + WebP 변환 시도
-                byte[] processedBytes = convertToGrayscaleWebP(originalBytes, file.getOriginalFilename());
-
-                if (processedBytes != null) {
-                    // [수정] 변환 성공 시 파일명 확장자도 .webp로 변경
-                    String newFileName = renameToWebp(originalFileName);
-                    log.debug("파일명 변경: {} -> {}", originalFileName, newFileName);
-                    
-                    fileContents.add(new FileContent(newFileName, "image/webp", processedBytes));
-                } else {
-                    // 변환 실패: 원본 바이트와 원본 MIME 타입을 그대로 사용
-                    log.warn("이미지 변환 실패(또는 지원안됨)로 원본 형식을 유지합니다: {}, 타입: {}", 
-                             originalFileName, originalMimeType);
-                    fileContents.add(new FileContent(originalFileName, originalMimeType, originalBytes));
-                }
+                fileContents.add(new FileContent(newFileName, "image/webp", processedBytes));
+            } else {
+                // 변환 실패: 원본 바이트와 원본 MIME 타입을 그대로 사용
+                log.warn("이미지 변환 실패(또는 지원안됨)로 원본 형식을 유지합니다: {}, 타입: {}", 
+                         originalFileName, originalMimeType);
+                fileContents.add(new FileContent(originalFileName, originalMimeType, originalBytes));
             }
         }
 
-        return fileContents;        
+        return fileContents;
     }
     
     /**
@@ -1081,8 +1670,7 @@ public class GoodsBatchService {
         	monitoringBody.put("monitoringName", "ai 생존여부");
         	monitoringBody.put("count", 0);
             
-            WebClient webClient = webClientBuilder.build();
-            webClient.post()
+            callbackWebClient.post()
                      .uri(monitoringUrl)
                      .contentType(MediaType.APPLICATION_JSON)
                      .bodyValue(monitoringBody)
@@ -1104,7 +1692,7 @@ public class GoodsBatchService {
         log.debug("<<< 모니터링용 결과 전송 : sendMonitoringEventsAlive 종료");
 	}
 	
-	private static class SafetyBlockException extends RuntimeException {
+	static class SafetyBlockException extends RuntimeException {
 	    private final InspectionResult result;
 
 	    public SafetyBlockException(InspectionResult result) {
@@ -1117,7 +1705,7 @@ public class GoodsBatchService {
 	    }
 	}
 	
-	private static class InspectionRejectedException extends RuntimeException {
+	static class InspectionRejectedException extends RuntimeException {
 	    private final InspectionResult result;
 
 	    public InspectionRejectedException(InspectionResult result) {
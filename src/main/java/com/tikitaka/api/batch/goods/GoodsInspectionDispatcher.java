@@ -0,0 +1,169 @@
+package com.tikitaka.api.batch.goods;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.tikitaka.api.batch.goods.entity.GoodsBatchRequest;
+import com.tikitaka.api.global.config.InspectionExecutorConfig;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 검수 요청을 연속으로 처리하는 디스패처입니다.
+ * 1분 단위 배치처럼 가장 느린 요청이 끝날 때까지 기다리지 않고,
+ * 동시에 처리 중인 검수 건수를 일정하게 유지하면서 슬롯이 비는 즉시 다음 요청을 선점합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GoodsInspectionDispatcher {
+
+    // continuous: 연속 디스패처, cron: 기존 1분 단위 배치
+    @Value("${batch.dispatcher.mode:continuous}")
+    private String dispatcherMode;
+
+    // 동시에 처리할 최대 검수 건수 (virtual 실행기에서는 수백 건까지 올릴 수 있습니다)
+    @Value("${batch.dispatcher.max-in-flight:${batch.multi-thread-count}}")
+    private int maxInFlight;
+
+    // 처리할 요청이 없을 때 다음 선점을 시도하기까지 대기 시간(ms)
+    @Value("${batch.dispatcher.idle-poll-ms:5000}")
+    private long idlePollMillis;
+
+    private final GoodsBatchService goodsBatchService;
+
+    @Qualifier(InspectionExecutorConfig.INSPECTION_EXECUTOR)
+    private final AsyncTaskExecutor inspectionTaskExecutor;
+
+    private volatile boolean running;
+    private Semaphore slots;
+    private Thread dispatcherThread;
+
+    // S3 수집 완료 여부는 DB 조회가 필요하므로 idlePollMillis 동안 캐시합니다.
+    private boolean inspectionReady;
+    private long readyCheckedAt;
+
+    public boolean isContinuousMode() {
+        return "continuous".equalsIgnoreCase(dispatcherMode);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!isContinuousMode()) {
+            log.info("연속 디스패처 비활성화 (batch.dispatcher.mode={})", dispatcherMode);
+            return;
+        }
+        if (maxInFlight <= 0) {
+            maxInFlight = 1;
+        }
+
+        slots = new Semaphore(maxInFlight);
+
+        running = true;
+        dispatcherThread = new Thread(this::dispatchLoop, "inspection-dispatcher");
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+        log.info("===== 연속 검수 디스패처 시작 (최대 동시 처리: {}건) =====", maxInFlight);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        dispatcherThread.interrupt();
+        // 진행 중인 검수의 마무리 대기는 inspectionTaskExecutor 종료 시 처리됩니다.
+        log.info("===== 연속 검수 디스패처 종료 =====");
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                if (!isInspectionReady()) {
+                    sleepIdle();
+                    continue;
+                }
+
+                // 1. 빈 슬롯이 생길 때까지 대기한 뒤, 비어 있는 슬롯 수만큼 한 번에 선점합니다.
+                slots.acquire();
+                int wanted = 1 + slots.drainPermits();
+
+                List<GoodsBatchRequest> claimedRequests;
+                try {
+                    claimedRequests = goodsBatchService.claimPendingRequests(wanted);
+                } catch (Exception e) {
+                    slots.release(wanted);
+                    log.error("검수 요청 선점 중 오류가 발생했습니다.", e);
+                    sleepIdle();
+                    continue;
+                }
+
+                // 2. 선점하지 못한 만큼 슬롯을 반납합니다.
+                if (claimedRequests.size() < wanted) {
+                    slots.release(wanted - claimedRequests.size());
+                }
+                if (claimedRequests.isEmpty()) {
+                    sleepIdle();
+                    continue;
+                }
+
+                // 3. 선점한 요청을 워커에 전달합니다. 슬롯은 검수가 끝나는 즉시 반납됩니다.
+                for (GoodsBatchRequest request : claimedRequests) {
+                    dispatch(request);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("검수 디스패처 루프에서 예기치 않은 오류가 발생했습니다.", e);
+            }
+        }
+    }
+
+    private void dispatch(GoodsBatchRequest request) {
+        try {
+            if (goodsBatchService.isStagedPipeline()) {
+                // 단계별 파이프라인: 각 단계 큐가 가득 차면 제출이 대기하고, 마지막 단계가 끝나면 슬롯을 반납합니다.
+                goodsBatchService.processClaimedRequestStaged(request)
+                        .whenComplete((processed, e) -> slots.release());
+                return;
+            }
+            inspectionTaskExecutor.execute(() -> {
+                try {
+                    goodsBatchService.processClaimedRequest(request);
+                } catch (Exception e) {
+                    log.error("!! request_id: {} 검수 처리 중 예기치 않은 오류 발생 !!", request.getRequestId(), e);
+                } finally {
+                    slots.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            slots.release();
+            goodsBatchService.releaseRejectedRequest(request, e);
+        }
+    }
+
+    private boolean isInspectionReady() {
+        long now = System.currentTimeMillis();
+        if (now - readyCheckedAt >= idlePollMillis) {
+            inspectionReady = goodsBatchService.isInspectionReady();
+            readyCheckedAt = now;
+        }
+        return inspectionReady;
+    }
+
+    private void sleepIdle() throws InterruptedException {
+        Thread.sleep(idlePollMillis);
+    }
+}
@@ -0,0 +1,203 @@
+package com.tikitaka.api.batch.goods;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.tikitaka.api.batch.goods.entity.Goods;
+import com.tikitaka.api.batch.inspection.dto.InspectionResult;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검수 입력이 같으면 이전 검수 결과를 재사용하는 결과 캐시입니다. (테이블: inspection_result_cache)
+ * 키(fingerprint)는 상품 텍스트, 원본 이미지 내용 해시, 적용 금칙어 목록, 검수 모델, 프롬프트 버전을 SHA-256으로 묶은 값이므로
+ * 어느 하나라도 바뀌면 새로 검수합니다. 전날과 변경 없는 상품은 이미지 분할/변환과 AI 호출을 건너뜁니다.
+ * 캐시 조회/저장 오류는 검수를 실패시키지 않고 캐시 미스로 처리합니다.
+ * 적중률은 inspection.result.cache (result=hit|miss) 카운터와 inspection.result.cache.hit.ratio 게이지로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class InspectionResultCache {
+
+    private static final String FIND_SQL =
+            "SELECT approved, error_code, reason, forbidden_word, inspector_id"
+          + "  FROM inspection_result_cache"
+          + " WHERE fingerprint = ?"
+          + "   AND created_at > now() - make_interval(days => ?)";
+
+    private static final String SAVE_SQL =
+            "INSERT INTO inspection_result_cache (fingerprint, approved, error_code, reason, forbidden_word, inspector_id, created_at)"
+          + " VALUES (?, ?, ?, ?, ?, ?, now())"
+          + " ON CONFLICT (fingerprint) DO UPDATE"
+          + "    SET approved = EXCLUDED.approved"
+          + "      , error_code = EXCLUDED.error_code"
+          + "      , reason = EXCLUDED.reason"
+          + "      , forbidden_word = EXCLUDED.forbidden_word"
+          + "      , inspector_id = EXCLUDED.inspector_id"
+          + "      , created_at = EXCLUDED.created_at";
+
+    private static final String PURGE_SQL =
+            "DELETE FROM inspection_result_cache WHERE created_at <= now() - make_interval(days => ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final String promptVersion;
+    private final int ttlDays;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong lookups = new AtomicLong();
+
+    public InspectionResultCache(JdbcTemplate jdbcTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${batch.result-cache.enabled-yn:N}") String enabledYn,
+                                 @Value("${batch.result-cache.prompt-version:1}") String promptVersion,
+                                 @Value("${batch.result-cache.ttl-days:30}") int ttlDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = "Y".equalsIgnoreCase(enabledYn);
+        this.promptVersion = promptVersion;
+        this.ttlDays = Math.max(1, ttlDays);
+        this.hitCounter = meterRegistry.counter("inspection.result.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("inspection.result.cache", "result", "miss");
+        Gauge.builder("inspection.result.cache.hit.ratio", this, cache -> cache.hitRatio())
+                .description("검수 결과 캐시 적중률 (애플리케이션 시작 이후)")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 검수 입력의 fingerprint를 계산합니다.
+     * @param images 분할/변환 전 원본 이미지 (순서 포함)
+     * @param inspectorId 검수 모델 (모델이 바뀌면 다시 검수)
+     */
+    public String fingerprint(Goods goods, MultipartFile[] images, String forbiddenWords, String inspectorId) throws IOException {
+        MessageDigest digest = sha256();
+        update(digest, "prompt-version", promptVersion);
+        update(digest, "inspector", inspectorId);
+        update(digest, "goods-name", goods.getGoodsName());
+        update(digest, "mobile-goods-name", goods.getMobileGoodsName());
+        update(digest, "goods-info", goods.getGoodsInfo());
+
+        // 금칙어는 조회 순서와 무관하게 같은 목록이면 같은 키가 되도록 정렬합니다.
+        List<String> words = Arrays.stream(forbiddenWords.split(","))
+                .map(String::trim)
+                .filter(word -> !word.isEmpty())
+                .sorted()
+                .distinct()
+                .toList();
+        update(digest, "forbidden-words", String.join(",", words));
+
+        // 이미지는 내용 해시만 사용하므로 URL이 바뀌어도 내용이 같으면 같은 키가 됩니다.
+        if (images != null) {
+            for (MultipartFile image : images) {
+                if (image == null || image.isEmpty()) {
+                    continue;
+                }
+                MessageDigest imageDigest = sha256();
+                imageDigest.update(image.getBytes());
+                update(digest, "image", HexFormat.of().formatHex(imageDigest.digest()));
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 보관 기간 내의 검수 결과를 조회합니다.
+     * @return 캐시된 결과, 없거나 조회에 실패하면 null
+     */
+    public InspectionResult find(String fingerprint) {
+        lookups.incrementAndGet();
+        InspectionResult result = null;
+        try {
+            List<InspectionResult> results = jdbcTemplate.query(FIND_SQL,
+                    (rs, rowNum) -> new InspectionResult(
+                            rs.getBoolean("approved"),
+                            rs.getInt("error_code"),
+                            rs.getString("reason"),
+                            rs.getString("forbidden_word"),
+                            rs.getString("inspector_id")),
+                    fingerprint, ttlDays);
+            result = results.isEmpty() ? null : results.get(0);
+        } catch (Exception e) {
+            log.warn("검수 결과 캐시 조회 실패 - 캐시 없이 검수합니다. (원인: {})", e.getMessage());
+        }
+
+        if (result != null) {
+            hits.incrementAndGet();
+            hitCounter.increment();
+        } else {
+            missCounter.increment();
+        }
+        return result;
+    }
+
+    /**
+     * 확정된 검수 결과를 저장합니다.
+     */
+    public void save(String fingerprint, InspectionResult result) {
+        if (fingerprint == null || result == null) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(SAVE_SQL, fingerprint, result.isApproved(), result.getErrorCode(),
+                    result.getReason(), result.getForbiddenWord(), result.getInspectorId());
+        } catch (Exception e) {
+            log.warn("검수 결과 캐시 저장 실패 (원인: {})", e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 캐시를 삭제합니다.
+     */
+    public void purgeExpired() {
+        if (!enabled) {
+            return;
+        }
+        int deleted = jdbcTemplate.update(PURGE_SQL, ttlDays);
+        log.info("보관 기간({}일)이 지난 검수 결과 캐시 {}건을 삭제했습니다.", ttlDays, deleted);
+    }
+
+    private double hitRatio() {
+        long total = lookups.get();
+        return total == 0 ? 0d : (double) hits.get() / total;
+    }
+
+    private void update(MessageDigest digest, String name, String value) {
+        // 필드 경계를 구분하여 "ab"+"c"와 "a"+"bc"가 같은 키가 되지 않도록 합니다.
+        digest.update(name.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        if (value != null) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(bytes);
+        }
+        digest.update((byte) 0);
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
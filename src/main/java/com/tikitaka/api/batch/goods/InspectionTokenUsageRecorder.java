@@ -0,0 +1,147 @@
+package com.tikitaka.api.batch.goods;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.tikitaka.api.batch.goods.entity.GoodsBatchRequest;
+import com.tikitaka.api.batch.inspection.dto.InspectionResult;
+import com.tikitaka.api.batch.inspection.dto.TokenUsage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검수 1건(AI 호출 1회)마다 토큰 사용량을 기록합니다.
+ * - 메트릭: ai.tokens (model, category=대분류, type=prompt|image|output) 카운터로 일자/분류/모델별 사용량을 집계합니다.
+ * - 테이블: batch.token-usage.enabled-yn=Y이면 inspection_token_usage에 요청 단위로 저장합니다. (재시도 호출도 각각 기록)
+ *   INSERT는 상품마다 실행하지 않고 모아서 JDBC batch로 기록합니다.
+ */
+@Slf4j
+@Component
+public class InspectionTokenUsageRecorder {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO inspection_token_usage"
+          + " (request_id, goods_code, lgroup, inspector_id, prompt_tokens, image_tokens, output_tokens, total_tokens, created_at)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, now())";
+
+    private static final String PURGE_SQL =
+            "DELETE FROM inspection_token_usage WHERE created_at <= now() - make_interval(days => ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int flushSize;
+    private final int maxBufferSize;
+    private final int retentionDays;
+
+    private final Queue<UsageRow> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bufferSize = new AtomicInteger();
+
+    public InspectionTokenUsageRecorder(JdbcTemplate jdbcTemplate,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${batch.token-usage.enabled-yn:N}") String enabledYn,
+                                        @Value("${batch.result-writer.flush-size:100}") int flushSize,
+                                        @Value("${batch.result-writer.max-buffer-size:5000}") int maxBufferSize,
+                                        @Value("${batch.token-usage.retention-days:90}") int retentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = "Y".equalsIgnoreCase(enabledYn);
+        this.flushSize = Math.max(1, flushSize);
+        this.maxBufferSize = Math.max(this.flushSize, maxBufferSize);
+        this.retentionDays = Math.max(1, retentionDays);
+    }
+
+    /**
+     * 검수 결과에 담긴 토큰 사용량을 기록합니다. 사용량이 없는 결과(캐시 재사용 등)는 무시합니다.
+     */
+    public void record(GoodsBatchRequest request, InspectionResult result) {
+        TokenUsage usage = result.getTokenUsage();
+        if (usage == null) {
+            return;
+        }
+        String model = result.getInspectorId() != null ? result.getInspectorId() : "unknown";
+        String category = request.getLgroup() != null && !request.getLgroup().isBlank() ? request.getLgroup() : "none";
+        count(model, category, "prompt", usage.getPromptTokens() - usage.getImageTokens());
+        count(model, category, "image", usage.getImageTokens());
+        count(model, category, "output", usage.getOutputTokens());
+        log.debug("request_id: {} 토큰 사용량 - {}", request.getRequestId(), usage);
+
+        if (!enabled) {
+            return;
+        }
+        if (bufferSize.get() >= maxBufferSize) {
+            log.warn("토큰 사용량 버퍼 초과로 request_id: {}의 사용량을 저장하지 않습니다.", request.getRequestId());
+            return;
+        }
+        buffer.add(new UsageRow(request.getRequestId(), request.getGoodsCode(), request.getLgroup(), model, usage));
+        if (bufferSize.incrementAndGet() >= flushSize) {
+            flush();
+        }
+    }
+
+    /**
+     * 쌓인 사용량을 JDBC batch로 기록합니다. 실패하면 해당 분량은 버립니다. (메트릭에는 이미 반영됨)
+     */
+    @Scheduled(fixedDelayString = "${batch.result-writer.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (!enabled || buffer.isEmpty()) {
+            return;
+        }
+        List<UsageRow> rows = new ArrayList<>();
+        UsageRow row;
+        while ((row = buffer.poll()) != null) {
+            rows.add(row);
+        }
+        bufferSize.addAndGet(-rows.size());
+
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, usageRow) -> {
+                ps.setObject(1, usageRow.requestId());
+                ps.setString(2, usageRow.goodsCode());
+                ps.setString(3, usageRow.lgroup());
+                ps.setString(4, usageRow.inspectorId());
+                ps.setInt(5, usageRow.usage().getPromptTokens());
+                ps.setInt(6, usageRow.usage().getImageTokens());
+                ps.setInt(7, usageRow.usage().getOutputTokens());
+                ps.setInt(8, usageRow.usage().getTotalTokens());
+            });
+        } catch (Exception e) {
+            log.warn("토큰 사용량 {}건 저장 실패 (원인: {})", rows.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+
+    /**
+     * 보관 기간이 지난 사용량 기록을 삭제합니다.
+     */
+    public void purgeExpired() {
+        if (!enabled) {
+            return;
+        }
+        int deleted = jdbcTemplate.update(PURGE_SQL, retentionDays);
+        log.info("보관 기간({}일)이 지난 토큰 사용량 기록 {}건을 삭제했습니다.", retentionDays, deleted);
+    }
+
+    private void count(String model, String category, String type, int tokens) {
+        if (tokens > 0) {
+            meterRegistry.counter("ai.tokens", "model", model, "category", category, "type", type).increment(tokens);
+        }
+    }
+
+    private record UsageRow(Long requestId, String goodsCode, String lgroup, String inspectorId, TokenUsage usage) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.tikitaka.api.batch.goods;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.tikitaka.api.batch.goods.entity.GoodsBatchRequest;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 상품 검수 요청을 논블로킹으로 처리하는 디스패처입니다. (batch.dispatcher.mode=reactive)
+ * 선점 → AI 호출 → 결과 기록을 하나의 Flux로 연결하고 flatMap의 동시성으로 진행 중인 검수 건수를 제한합니다.
+ * AI 응답을 기다리는 동안 스레드를 점유하지 않으므로, 적은 수의 이벤트 루프 스레드로 많은 호출을 동시에 유지할 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactiveInspectionDispatcher {
+
+    @Value("${batch.dispatcher.mode:continuous}")
+    private String dispatcherMode;
+
+    // 동시에 진행할 최대 검수 건수
+    @Value("${batch.dispatcher.max-in-flight:${batch.multi-thread-count}}")
+    private int maxInFlight;
+
+    // 한 번에 선점할 최대 건수 (기본값 max-in-flight)
+    @Value("${batch.dispatcher.reactive.claim-size:0}")
+    private int claimSize;
+
+    // 처리할 요청이 없을 때 다음 선점을 시도하기까지 대기 시간(ms)
+    @Value("${batch.dispatcher.idle-poll-ms:5000}")
+    private long idlePollMillis;
+
+    private final GoodsBatchService goodsBatchService;
+
+    private volatile boolean running;
+    private Disposable subscription;
+    private CountDownLatch terminated;
+
+    // S3 수집 완료 여부는 DB 조회가 필요하므로 idlePollMillis 동안 캐시합니다.
+    private boolean inspectionReady;
+    private long readyCheckedAt;
+
+    public boolean isReactiveMode() {
+        return "reactive".equalsIgnoreCase(dispatcherMode);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!isReactiveMode()) {
+            return;
+        }
+        if (maxInFlight <= 0) {
+            maxInFlight = 1;
+        }
+        if (claimSize <= 0) {
+            claimSize = maxInFlight;
+        }
+
+        running = true;
+        terminated = new CountDownLatch(1);
+
+        // 1. 선점한 요청을 하나씩 내보내고, 모두 소비되면(하위 수요가 있을 때만) 다시 선점합니다.
+        Flux<GoodsBatchRequest> claimedRequests = Mono.fromCallable(this::claimNext)
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(requests -> requests.isEmpty()
+                        ? Mono.delay(Duration.ofMillis(idlePollMillis)).thenMany(Flux.<GoodsBatchRequest>empty())
+                        : Flux.fromIterable(requests))
+                .repeat(() -> running);
+
+        // 2. 최대 maxInFlight건까지 동시에 검수합니다. 개별 검수 실패는 processClaimedRequestReactive 내부에서 기록됩니다.
+        subscription = claimedRequests
+                .flatMap(goodsBatchService::processClaimedRequestReactive, maxInFlight)
+                .doFinally(signal -> terminated.countDown())
+                .subscribe(
+                        request -> log.debug("request_id: {} 검수 완료 (status: {})", request.getRequestId(), request.getStatus()),
+                        e -> log.error("reactive 검수 디스패처가 오류로 중단되었습니다.", e));
+
+        log.info("===== reactive 검수 디스패처 시작 (최대 동시 처리: {}건, 선점 단위: {}건) =====", maxInFlight, claimSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        // 새 선점을 멈추고, 진행 중인 검수는 최대 30초까지 마무리를 기다립니다.
+        running = false;
+        try {
+            if (!terminated.await(30, TimeUnit.SECONDS)) {
+                log.warn("종료 대기 시간 내에 끝나지 않은 검수가 있습니다. 임대 만료 후 재처리됩니다.");
+                subscription.dispose();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            subscription.dispose();
+        }
+        log.info("===== reactive 검수 디스패처 종료 =====");
+    }
+
+    private List<GoodsBatchRequest> claimNext() {
+        try {
+            if (!running || !isInspectionReady()) {
+                return List.of();
+            }
+            return goodsBatchService.claimPendingRequests(claimSize);
+        } catch (Exception e) {
+            log.error("검수 요청 선점 중 오류가 발생했습니다.", e);
+            return List.of();
+        }
+    }
+
+    private boolean isInspectionReady() {
+        long now = System.currentTimeMillis();
+        if (now - readyCheckedAt >= idlePollMillis) {
+            inspectionReady = goodsBatchService.isInspectionReady();
+            readyCheckedAt = now;
+        }
+        return inspectionReady;
+    }
+}
@@ -0,0 +1,103 @@
+package com.tikitaka.api.batch.goods;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검수 실패 시 다음 시도까지의 대기 시간을 계산합니다.
+ * 오류 유형별로 기준 시간(base)과 최대 시간(max)을 따로 두고, 시도 횟수에 따라 지수적으로 늘린 뒤 jitter를 적용합니다.
+ * 설정: batch.retry.backoff.{유형}.base-ms / batch.retry.backoff.{유형}.max-ms
+ */
+@Component
+@RequiredArgsConstructor
+public class RetryBackoffPolicy {
+
+    enum FailureType {
+        RATE_LIMITED("rate-limited", 30_000L, 600_000L),   // 429
+        SERVER_ERROR("server-error", 10_000L, 300_000L),   // 5xx
+        TIMEOUT("timeout", 5_000L, 120_000L),              // 연결/응답 시간 초과
+        SAFETY_BLOCK("safety-block", 30_000L, 300_000L),   // AI 안전 정책 차단
+        DEFAULT("default", 5_000L, 300_000L);
+
+        private final String key;
+        private final long defaultBaseMillis;
+        private final long defaultMaxMillis;
+
+        FailureType(String key, long defaultBaseMillis, long defaultMaxMillis) {
+            this.key = key;
+            this.defaultBaseMillis = defaultBaseMillis;
+            this.defaultMaxMillis = defaultMaxMillis;
+        }
+    }
+
+    private final Environment environment;
+
+    /**
+     * @param e 실패 원인
+     * @param attempt 지금까지의 재시도 횟수 (0부터 시작)
+     * @return 다음 시도까지 대기 시간(ms)
+     */
+    public long backoffMillis(Throwable e, int attempt) {
+        FailureType type = classify(e);
+        String prefix = "batch.retry.backoff." + type.key + ".";
+        long baseMillis = environment.getProperty(prefix + "base-ms", Long.class, type.defaultBaseMillis);
+        long maxMillis = environment.getProperty(prefix + "max-ms", Long.class, type.defaultMaxMillis);
+
+        // base * 2^attempt (최대 maxMillis) 범위에서 절반은 고정, 절반은 무작위(equal jitter)
+        long exponential = baseMillis << Math.min(Math.max(attempt, 0), 20);
+        long capped = Math.min(maxMillis, exponential);
+        long half = capped / 2;
+        long delay = half + ThreadLocalRandom.current().nextLong(half + 1);
+
+        // 429 응답에 Retry-After(초)가 있으면 그보다 먼저 재시도하지 않습니다.
+        if (type == FailureType.RATE_LIMITED && e instanceof WebClientResponseException wce) {
+            delay = Math.max(delay, parseRetryAfterMillis(wce));
+        }
+        return delay;
+    }
+
+    FailureType classify(Throwable e) {
+        if (e instanceof GoodsBatchService.SafetyBlockException) {
+            return FailureType.SAFETY_BLOCK;
+        }
+        if (e instanceof WebClientResponseException wce) {
+            if (wce.getStatusCode().value() == 429) {
+                return FailureType.RATE_LIMITED;
+            }
+            if (wce.getStatusCode().is5xxServerError()) {
+                return FailureType.SERVER_ERROR;
+            }
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException
+                    || cause instanceof SocketTimeoutException
+                    || cause instanceof io.netty.handler.timeout.TimeoutException
+                    || cause instanceof io.netty.channel.ConnectTimeoutException) {
+                return FailureType.TIMEOUT;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return FailureType.DEFAULT;
+    }
+
+    private long parseRetryAfterMillis(WebClientResponseException e) {
+        String retryAfter = e.getHeaders().getFirst("Retry-After");
+        if (retryAfter == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(retryAfter.trim()) * 1000L;
+        } catch (NumberFormatException ignore) {
+            return 0L;
+        }
+    }
+}
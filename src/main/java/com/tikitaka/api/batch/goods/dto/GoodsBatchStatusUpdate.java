@@ -0,0 +1,41 @@
+package com.tikitaka.api.batch.goods.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 쓰기 지연 버퍼(GoodsBatchResultWriter)에 쌓이는 검수 결과 상태 변경 1건입니다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class GoodsBatchStatusUpdate {
+
+    public enum Type {
+        FINAL,  // 최종 상태 확정 (updateFinalStatus)
+        RETRY,  // 재시도 횟수 증가 후 PENDING 복귀 (incrementRetryCount)
+        RELEASE // 재시도 횟수 차감 없이 PENDING 복귀 (releaseClaim)
+    }
+
+    private final Type type;
+    private final Long requestId;
+    private final String status;
+    private final String inspectionStatus;
+    private final String forbiddenWord;
+    private final String errorMessage;
+    private final long backoffMillis; // RETRY, RELEASE: 다음 시도까지 대기 시간(ms)
+
+    public static GoodsBatchStatusUpdate finalStatus(Long requestId, String status, String inspectionStatus, String forbiddenWord, String errorMessage) {
+        return new GoodsBatchStatusUpdate(Type.FINAL, requestId, status, inspectionStatus, forbiddenWord, errorMessage, 0L);
+    }
+
+    public static GoodsBatchStatusUpdate retry(Long requestId, String reason, long backoffMillis) {
+        return new GoodsBatchStatusUpdate(Type.RETRY, requestId, "PENDING", null, null, reason, backoffMillis);
+    }
+
+    public static GoodsBatchStatusUpdate release(Long requestId, String reason, long backoffMillis) {
+        return new GoodsBatchStatusUpdate(Type.RELEASE, requestId, "PENDING", null, null, reason, backoffMillis);
+    }
+}
@@ -35,6 +35,8 @@ public class GoodsBatchRequest {
     private String errorMessage;
     private String forbiddenWord;
     private int retries;
+    // 검수 결과 캐시 키 (처리 중에만 사용, 일괄 처리 작업으로 제출한 요청만 result_fingerprint 컬럼에 기록)
+    private String resultFingerprint;
     
     /**
      * GoodsBatchRequest 엔티티를 AI 검수에 필요한 Goods 엔티티로 변환합니다.
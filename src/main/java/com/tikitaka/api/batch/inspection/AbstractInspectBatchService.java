@@ -3,22 +3,242 @@ package com.tikitaka.api.batch.inspection;
 import com.tikitaka.api.batch.goods.entity.Goods;
 import com.tikitaka.api.batch.inspection.dto.FileContent;
 import com.tikitaka.api.batch.inspection.dto.InspectionResult;
+import com.tikitaka.api.batch.inspection.ratelimit.AdaptiveConcurrencyLimiter;
+import com.tikitaka.api.batch.inspection.ratelimit.AdaptiveConcurrencyLimiterRegistry;
+import com.tikitaka.api.batch.inspection.ratelimit.AiApiKeyPool;
+import com.tikitaka.api.batch.inspection.ratelimit.AiApiKeyPoolRegistry;
+import com.tikitaka.api.batch.inspection.ratelimit.AiRateLimiter;
+import com.tikitaka.api.batch.inspection.resilience.AiBulkhead;
+import com.tikitaka.api.batch.inspection.resilience.AiCircuitBreaker;
+import com.tikitaka.api.batch.inspection.resilience.AiResilienceRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
 import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Slf4j
 public abstract class AbstractInspectBatchService implements InspectBatchService {
 
     protected final WebClient webClient;
+    protected final AiApiKeyPool apiKeyPool; // 키별 호출량 제한기(RPM/TPM)를 함께 보관
+    protected final AdaptiveConcurrencyLimiter concurrencyLimiter; // null이면 동시 호출 수를 제한하지 않음
+    protected final AiCircuitBreaker circuitBreaker;
+    protected final AiBulkhead bulkhead;
 
     /**
      * 공통으로 필요한 의존성을 주입받는 생성자
+     * @param provider AI 제공자 (설정 키: {provider}.api.key, {provider}.api.additional-keys, ai.rate-limit.{provider}.*,
+     *                 ai.concurrency.{provider}.*, ai.circuit-breaker.{provider}.*, ai.bulkhead.{provider}.*)
      */
-    public AbstractInspectBatchService(WebClient.Builder webClientBuilder) {
+    public AbstractInspectBatchService(WebClient.Builder webClientBuilder, AiApiKeyPoolRegistry apiKeyPoolRegistry,
+                                       AdaptiveConcurrencyLimiterRegistry concurrencyLimiterRegistry,
+                                       AiResilienceRegistry resilienceRegistry, String provider) {
         this.webClient = webClientBuilder.build();
+        this.apiKeyPool = apiKeyPoolRegistry.poolFor(provider);
+        this.concurrencyLimiter = concurrencyLimiterRegistry.limiterFor(provider);
+        this.circuitBreaker = resilienceRegistry.circuitBreakerFor(provider);
+        this.bulkhead = resilienceRegistry.bulkheadFor(provider);
+    }
+
+    /**
+     * AI API를 호출합니다. 회로 차단기 → API 키 선택 → 키별 호출량 제한(RPM/TPM) → 적응형 동시 호출 한도 → bulkhead 순으로 통과해야 실제로 호출됩니다.
+     * bulkhead는 호출 직전에 얻으므로 호출량 제한/동시 호출 한도를 기다리는 요청은 자리를 차지하지 않고, 실제 호출 중인 건수만 제한합니다.
+     * 회로가 열려 있거나 bulkhead가 가득 차거나 모든 API 키가 격리 중이면 호출하지 않고 AiProviderUnavailableException을 던집니다.
+     * @param textChars 요청 본문 텍스트 길이
+     * @param imageCount 첨부 이미지 수
+     * @param primaryKeyOnly true이면 기본 API 키로만 호출 (기본 키로 만든 파일/캐시를 참조하는 요청)
+     * @param call 선택된 API 키로 실제 API 호출
+     */
+    protected <T> T executeApiCall(int textChars, int imageCount, boolean primaryKeyOnly, Function<String, T> call) {
+        circuitBreaker.acquirePermission();
+        AiApiKeyPool.ApiKey apiKey = null;
+        RuntimeException error = null;
+        try {
+            apiKey = apiKeyPool.acquire(primaryKeyOnly);
+            acquireRateLimit(apiKey, textChars, imageCount);
+            String keyValue = apiKey.getValue();
+            T response = callWithConcurrencyLimit(imageCount, () -> callWithBulkhead(() -> call.apply(keyValue)));
+            circuitBreaker.onSuccess();
+            return response;
+        } catch (RuntimeException e) {
+            error = e;
+            recordCircuitResult(e);
+            throw e;
+        } finally {
+            if (apiKey != null) {
+                apiKeyPool.release(apiKey, error);
+            }
+        }
+    }
+
+    /**
+     * executeApiCall의 논블로킹 버전입니다. (bulkhead는 대기하지 않고 자리가 없으면 즉시 실패)
+     */
+    protected <T> Mono<T> executeApiCallReactive(int textChars, int imageCount, boolean primaryKeyOnly, Function<String, Mono<T>> call) {
+        return Mono.defer(() -> {
+            circuitBreaker.acquirePermission();
+            AiApiKeyPool.ApiKey apiKey;
+            try {
+                apiKey = apiKeyPool.acquire(primaryKeyOnly);
+            } catch (RuntimeException e) {
+                circuitBreaker.onIgnored();
+                throw e;
+            }
+            AtomicReference<Throwable> error = new AtomicReference<>();
+            return acquireRateLimitReactive(apiKey, textChars, imageCount)
+                    .then(callWithConcurrencyLimitReactive(imageCount, callWithBulkheadReactive(call.apply(apiKey.getValue()))))
+                    .doOnSuccess(response -> circuitBreaker.onSuccess())
+                    .doOnError(e -> {
+                        error.set(e);
+                        recordCircuitResult(e);
+                    })
+                    .doOnCancel(circuitBreaker::onIgnored)
+                    .doFinally(signal -> apiKeyPool.release(apiKey, error.get()));
+        });
+    }
+
+    /**
+     * bulkhead 자리를 얻어 호출하고, 호출이 끝나면 반납합니다. 자리가 없으면 최대 max-wait-ms 동안 기다린 뒤 실패합니다.
+     */
+    private <T> T callWithBulkhead(Supplier<T> call) {
+        bulkhead.acquire();
+        try {
+            return call.get();
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * callWithBulkhead의 논블로킹 버전입니다. (대기하지 않고 자리가 없으면 즉시 실패)
+     */
+    private <T> Mono<T> callWithBulkheadReactive(Mono<T> call) {
+        return Mono.defer(() -> {
+            bulkhead.tryAcquire();
+            return call.doFinally(signal -> bulkhead.release());
+        });
+    }
+
+    /**
+     * 5xx, 연결 실패, 시간 초과는 제공자 장애로 집계하고, 그 외(요청 오류, 429 등)는 회로 판단에서 제외합니다.
+     */
+    private void recordCircuitResult(Throwable e) {
+        boolean providerFailure = e instanceof WebClientResponseException wce
+                ? wce.getStatusCode().is5xxServerError()
+                : e instanceof WebClientRequestException || isTimeout(e);
+        if (providerFailure) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onIgnored();
+        }
+    }
+
+    /**
+     * 선택된 API 키의 RPM/TPM 한도 내에서 호출할 수 있을 때까지 대기합니다.
+     * @param apiKey 호출에 사용할 API 키
+     * @param textChars 요청 본문 텍스트 길이
+     * @param imageCount 첨부 이미지 수
+     */
+    protected void acquireRateLimit(AiApiKeyPool.ApiKey apiKey, int textChars, int imageCount) {
+        AiRateLimiter rateLimiter = apiKey.getRateLimiter();
+        rateLimiter.acquire(rateLimiter.estimateTokens(textChars, imageCount));
+    }
+
+    /**
+     * acquireRateLimit의 논블로킹 버전입니다. 스레드를 재우지 않고 필요한 시간만큼 지연된 뒤 완료됩니다.
+     * (공유 버킷은 DB를 조회하므로 예약은 boundedElastic에서 수행합니다.)
+     */
+    protected Mono<Void> acquireRateLimitReactive(AiApiKeyPool.ApiKey apiKey, int textChars, int imageCount) {
+        AiRateLimiter rateLimiter = apiKey.getRateLimiter();
+        int estimatedTokens = rateLimiter.estimateTokens(textChars, imageCount);
+        return Mono.fromCallable(() -> rateLimiter.reserve(estimatedTokens))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(waitNanos -> waitNanos > 0 ? Mono.delay(Duration.ofNanos(waitNanos)).then() : Mono.<Void>empty());
+    }
+
+    /**
+     * 적응형 동시 호출 한도 안에서 AI API를 호출하고, 응답 지연과 결과를 한도 조절에 반영합니다.
+     * @param imageCount 첨부 이미지 수 (이미지가 많은 호출의 긴 지연을 지연 급증으로 오판하지 않도록 사용)
+     */
+    protected <T> T callWithConcurrencyLimit(int imageCount, Supplier<T> call) {
+        if (concurrencyLimiter == null) {
+            return call.get();
+        }
+        long startedAt = concurrencyLimiter.acquire();
+        try {
+            T response = call.get();
+            concurrencyLimiter.release(startedAt, AdaptiveConcurrencyLimiter.Outcome.SUCCESS, imageCount);
+            return response;
+        } catch (RuntimeException e) {
+            concurrencyLimiter.release(startedAt, classifyOutcome(e), imageCount);
+            throw e;
+        }
+    }
+
+    /**
+     * callWithConcurrencyLimit의 논블로킹 버전입니다. 한도가 가득 차면 스레드를 점유하지 않고 한도 대기열에서 권한 반납을 기다립니다.
+     */
+    protected <T> Mono<T> callWithConcurrencyLimitReactive(int imageCount, Mono<T> call) {
+        if (concurrencyLimiter == null) {
+            return call;
+        }
+        return concurrencyLimiter.acquireReactive()
+                .flatMap(startedAt -> {
+                    AtomicBoolean released = new AtomicBoolean();
+                    return call
+                            .doOnSuccess(response -> {
+                                if (released.compareAndSet(false, true)) {
+                                    concurrencyLimiter.release(startedAt, AdaptiveConcurrencyLimiter.Outcome.SUCCESS, imageCount);
+                                }
+                            })
+                            .doOnError(e -> {
+                                if (released.compareAndSet(false, true)) {
+                                    concurrencyLimiter.release(startedAt, classifyOutcome(e), imageCount);
+                                }
+                            })
+                            .doOnCancel(() -> {
+                                if (released.compareAndSet(false, true)) {
+                                    concurrencyLimiter.release(startedAt, AdaptiveConcurrencyLimiter.Outcome.IGNORED, imageCount);
+                                }
+                            });
+                });
+    }
+
+    /**
+     * 429/503과 시간 초과는 제공자 과부하 신호로, 그 외 오류는 한도 조절과 무관한 실패로 분류합니다.
+     */
+    protected AdaptiveConcurrencyLimiter.Outcome classifyOutcome(Throwable e) {
+        if (e instanceof WebClientResponseException wce) {
+            int status = wce.getStatusCode().value();
+            return status == 429 || status == 503 ? AdaptiveConcurrencyLimiter.Outcome.DROPPED : AdaptiveConcurrencyLimiter.Outcome.IGNORED;
+        }
+        return isTimeout(e) ? AdaptiveConcurrencyLimiter.Outcome.DROPPED : AdaptiveConcurrencyLimiter.Outcome.IGNORED;
+    }
+
+    private boolean isTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof SocketTimeoutException
+                    || cause instanceof io.netty.handler.timeout.TimeoutException) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
     }
 
     // --- 자식 클래스가 반드시 구현해야 할 핵심 메소드 ---
@@ -40,6 +260,6 @@ public abstract class AbstractInspectBatchService implements InspectBatchService
     public abstract InspectionResult performAiInspection(Goods goods, List<FileContent> fileContents, String forbiddenWords) throws Exception;
     
     // --- 공통 Private Helper Methods ---
-    protected abstract String getInspectorId();
+    public abstract String getInspectorId();
     
 }
\ No newline at end of file
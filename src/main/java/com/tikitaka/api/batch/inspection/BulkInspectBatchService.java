@@ -0,0 +1,67 @@
+package com.tikitaka.api.batch.inspection;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+import com.tikitaka.api.batch.goods.entity.Goods;
+import com.tikitaka.api.batch.inspection.dto.BulkInspectionResult;
+import com.tikitaka.api.batch.inspection.dto.BulkJobStatus;
+import com.tikitaka.api.batch.inspection.dto.FileContent;
+
+/**
+ * 여러 건의 검수 요청을 AI 제공자의 일괄 처리(Batch) 작업으로 제출하고 결과를 나중에 받아오는 검수 서비스입니다.
+ * 응답까지 수 분~수 시간이 걸리는 대신 동기 호출보다 처리량이 크고 비용이 낮아, 야간 대량 검수에 사용합니다.
+ * 단건 검수(performAiInspection)는 동기 호출로 처리합니다.
+ */
+public interface BulkInspectBatchService extends InspectBatchService {
+
+    /**
+     * @return AI 제공자 (batch.bulk.provider 설정값과 비교)
+     */
+    String getProvider();
+
+    /**
+     * 새 일괄 처리 작업의 입력을 작성합니다. 입력은 임시 파일에 바로 기록되므로 대량의 이미지를 메모리에 모아두지 않습니다.
+     * @param displayName 작업 표시 이름
+     */
+    BulkSubmission newSubmission(String displayName) throws IOException;
+
+    /**
+     * 일괄 처리 작업의 상태를 조회합니다.
+     * @param jobName submit이 반환한 작업 이름
+     */
+    BulkJobStatus getJobStatus(String jobName);
+
+    /**
+     * 진행 중인 일괄 처리 작업을 취소합니다. (제출 후 요청 상태를 기록하지 못해 결과를 반영할 수 없는 작업의 과금 방지)
+     * @param jobName submit이 반환한 작업 이름
+     */
+    void cancelJob(String jobName);
+
+    /**
+     * 완료된 작업의 결과 파일을 내려받아 요청 키별 검수 결과로 변환합니다.
+     * @param status 상태가 SUCCEEDED인 작업
+     */
+    List<BulkInspectionResult> fetchResults(BulkJobStatus status) throws IOException;
+
+    /**
+     * 작성 중인 일괄 처리 작업 입력입니다. 제출 여부와 관계없이 close 시 임시 파일을 삭제합니다.
+     */
+    interface BulkSubmission extends Closeable {
+
+        /**
+         * 검수 요청 1건을 입력에 추가합니다.
+         * @param key 결과를 요청과 다시 연결하기 위한 키
+         */
+        void add(String key, Goods goods, List<FileContent> fileContents, String forbiddenWords) throws IOException;
+
+        int size();
+
+        /**
+         * 입력을 업로드하고 작업을 생성합니다.
+         * @return 작업 이름 (상태/결과 조회에 사용)
+         */
+        String submit() throws IOException;
+    }
+}
@@ -1,9 +1,19 @@
 package com.tikitaka.api.batch.inspection;
 
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.tikitaka.api.batch.goods.entity.Goods;
 import com.tikitaka.api.batch.inspection.dto.*;
+import com.tikitaka.api.batch.inspection.ratelimit.AdaptiveConcurrencyLimiterRegistry;
+import com.tikitaka.api.batch.inspection.ratelimit.AiApiKeyPoolRegistry;
+import com.tikitaka.api.batch.inspection.resilience.AiResilienceRegistry;
+import com.tikitaka.api.global.config.HttpClientConfig;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,9 +24,12 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
 
@@ -26,7 +39,6 @@ import java.util.List;
 //@Primary // 기본 구현체로 지정
 public class ChatGPTInspectBatchServiceImpl extends AbstractInspectBatchService {
 
-    private final String openaiApiKey;
 	private final String openaiApiUrl;
     private final String openaiApiModelName;
 
@@ -34,7 +46,7 @@ public class ChatGPTInspectBatchServiceImpl extends AbstractInspectBatchService
     
     // --- ChatGPT용 요청/응답 DTO ---
     @Getter
-    private static class ChatGPTRequest {
+    static class ChatGPTRequest {
         private final String model;
         private final List<Message> messages;
         private final int max_tokens = 1024; // 응답 최대 길이 설정
@@ -68,15 +80,60 @@ public class ChatGPTInspectBatchServiceImpl extends AbstractInspectBatchService
     @Getter
     private static class ImageUrlContent extends Content {
         private final ImageUrl image_url;
-        public ImageUrlContent(String url) { super("image_url"); this.image_url = new ImageUrl(url); }
+        public ImageUrlContent(String mimeType, byte[] data) { super("image_url"); this.image_url = new ImageUrl(new DataUrl(mimeType, data)); }
     }
     
     @Getter @AllArgsConstructor
-    private static class ImageUrl { private final String url; }
+    private static class ImageUrl {
+        @JsonSerialize(using = DataUrlSerializer.class)
+        private final DataUrl url;
+    }
+
+    // data:{mimeType};base64,{data} 형식의 이미지 URL. base64 문자열은 직렬화 시점에만 만들어집니다.
+    @Getter @AllArgsConstructor
+    private static class DataUrl {
+        private final String mimeType;
+        private final byte[] data;
+    }
+
+    /**
+     * DataUrl을 "data:...;base64,..." 문자열로 기록합니다.
+     * 이미지 전체의 base64 문자열을 만들지 않고 일정 크기씩 인코딩하여 출력 버퍼에 바로 씁니다.
+     */
+    private static class DataUrlSerializer extends StdSerializer<DataUrl> {
+
+        // 3의 배수여야 청크 경계에서 base64 패딩이 생기지 않습니다.
+        private static final int CHUNK_BYTES = 3 * 4096;
+
+        DataUrlSerializer() {
+            super(DataUrl.class);
+        }
+
+        @Override
+        public void serialize(DataUrl value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            // base64 문자와 MIME 타입은 JSON 이스케이프가 필요 없으므로 raw로 기록합니다.
+            gen.writeRawValue("\"data:" + value.getMimeType() + ";base64,");
+            byte[] data = value.getData();
+            Base64.Encoder encoder = Base64.getEncoder();
+            for (int offset = 0; offset < data.length; offset += CHUNK_BYTES) {
+                int length = Math.min(CHUNK_BYTES, data.length - offset);
+                gen.writeRaw(new String(encoder.encode(Arrays.copyOfRange(data, offset, offset + length)), StandardCharsets.US_ASCII));
+            }
+            gen.writeRaw('"');
+        }
+    }
 
     @Getter @NoArgsConstructor
     private static class ChatGPTResponse {
         private List<Choice> choices;
+        private Usage usage; // 토큰 사용량
+    }
+
+    @Getter @NoArgsConstructor
+    private static class Usage {
+        private int prompt_tokens;
+        private int completion_tokens;
+        private int total_tokens;
     }
 
     @Getter @NoArgsConstructor
@@ -90,22 +147,23 @@ public class ChatGPTInspectBatchServiceImpl extends AbstractInspectBatchService
     }
     
     /**
-     * 생성자: 공통 의존성은 부모에게, 전용 의존성(API Key)은 여기서 초기화합니다.
+     * 생성자: 공통 의존성(API 키 풀 포함)은 부모에게, 전용 의존성은 여기서 초기화합니다.
      */
-    public ChatGPTInspectBatchServiceImpl(WebClient.Builder webClientBuilder,
-                                     @Value("${openai.api.key}") String openaiApiKey,
+    public ChatGPTInspectBatchServiceImpl(@Qualifier(HttpClientConfig.OPENAI_WEB_CLIENT_BUILDER) WebClient.Builder webClientBuilder,
+                                     AiApiKeyPoolRegistry apiKeyPoolRegistry,
+                                     AdaptiveConcurrencyLimiterRegistry concurrencyLimiterRegistry,
+                                     AiResilienceRegistry resilienceRegistry,
                                      @Value("${openai.api.url}") String openaiApiUrl,
                                      @Value("${openai.api.model_name}") String openaiApiModelName,
                                      ObjectMapper objectMapper) {
-        super(webClientBuilder);
-        this.openaiApiKey = openaiApiKey;
+        super(webClientBuilder, apiKeyPoolRegistry, concurrencyLimiterRegistry, resilienceRegistry, "openai");
         this.openaiApiUrl = openaiApiUrl;
         this.objectMapper = objectMapper;
         this.openaiApiModelName = openaiApiModelName;
     }
 
 	@Override
-	protected String getInspectorId() {
+	public String getInspectorId() {
 		return openaiApiModelName;
 	}
 	
@@ -127,17 +185,49 @@ public class ChatGPTInspectBatchServiceImpl extends AbstractInspectBatchService
     
     @Override
     public InspectionResult performAiInspection(Goods goods, List<FileContent> fileContents, String forbiddenWords) {
+        // 1~2. 프롬프트(텍스트)와 Base64로 인코딩한 이미지로 요청 생성
+        ChatGPTRequest request = buildChatGptRequest(goods, fileContents, forbiddenWords);
+
+        // 3. ChatGPT API 호출
+        ChatGPTResponse response = callChatGptApi(request);
+
+        // 4. 응답 파싱 및 반환
+        return parseChatGPTResponse(response);
+    }
+
+    @Override
+    public Mono<InspectionResult> performAiInspectionReactive(Goods goods, List<FileContent> fileContents, String forbiddenWords) {
+        return Mono.defer(() -> {
+            ChatGPTRequest request = buildChatGptRequest(goods, fileContents, forbiddenWords);
+
+            return executeApiCallReactive(countTextChars(request), countImages(request), false, apiKey -> requestChatGptApi(request, apiKey))
+                    .map(this::parseChatGPTResponse)
+                    .switchIfEmpty(Mono.fromSupplier(() -> parseChatGPTResponse(null)));
+        });
+    }
+
+    /**
+     * 요청 본문을 생성합니다. Batch API(OpenAiBulkInspectBatchServiceImpl)도 동기 호출과 같은 본문을 사용합니다.
+     */
+    ChatGPTRequest buildChatGptRequest(Goods goods, List<FileContent> fileContents, String forbiddenWords) {
         List<Content> contents = new ArrayList<>();
-        // 1. 프롬프트(텍스트)를 Content 리스트에 추가
         contents.add(new TextContent(createPromptForCheckForbiddenWords(goods, forbiddenWords)));
-        // 2. 이미지들을 Base64로 인코딩하여 Content 리스트에 추가
         contents.addAll(createImageContentsFromFileContents(fileContents));
-        
-        // 3. ChatGPT API 요청 생성 및 호출
-        ChatGPTRequest request = new ChatGPTRequest(openaiApiModelName, List.of(new Message(contents)));
-        ChatGPTResponse response = callChatGptApi(request);
+        return new ChatGPTRequest(openaiApiModelName, List.of(new Message(contents)));
+    }
 
-        // 4. 응답 파싱 및 반환
+    /**
+     * Batch API 결과 파일의 응답 본문(chat completion)을 동기 호출과 같은 기준으로 해석합니다.
+     */
+    InspectionResult toInspectionResult(JsonNode responseBody) {
+        ChatGPTResponse response = null;
+        if (responseBody != null && !responseBody.isNull()) {
+            try {
+                response = objectMapper.treeToValue(responseBody, ChatGPTResponse.class);
+            } catch (JsonProcessingException e) {
+                log.error("ChatGPT 일괄 처리 응답을 해석할 수 없습니다: {}", responseBody, e);
+            }
+        }
         return parseChatGPTResponse(response);
     }
 
@@ -148,10 +238,7 @@ public class ChatGPTInspectBatchServiceImpl extends AbstractInspectBatchService
         if (files != null) {
             for (MultipartFile file : files) {
                 if (file == null || file.isEmpty()) continue;
-                byte[] fileBytes = file.getBytes();
-                String base64Image = Base64.getEncoder().encodeToString(fileBytes);
-                String dataUrl = "data:" + file.getContentType() + ";base64," + base64Image;
-                imageContents.add(new ImageUrlContent(dataUrl));
+                imageContents.add(new ImageUrlContent(file.getContentType(), file.getBytes()));
             }
         }
         return imageContents;
@@ -161,33 +248,64 @@ public class ChatGPTInspectBatchServiceImpl extends AbstractInspectBatchService
         List<ImageUrlContent> imageContents = new ArrayList<>();
         if (fileContents != null) {
             for (FileContent file : fileContents) {
-                String base64Image = Base64.getEncoder().encodeToString(file.getContent());
-                String dataUrl = "data:" + file.getMimeType() + ";base64," + base64Image;
-                imageContents.add(new ImageUrlContent(dataUrl));
+                // base64 인코딩은 요청 전송 시 스트리밍으로 수행
+                imageContents.add(new ImageUrlContent(file.getMimeType(), file.getContent()));
             }
         }
         return imageContents;
     }
 
     private ChatGPTResponse callChatGptApi(ChatGPTRequest requestBody) {
-        try {
-            // 이 부분이 핵심! 요청 객체를 JSON 문자열로 변환하여 로그로 남긴다.
-            String jsonRequest = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(requestBody);
-            log.info("OpenAI API Request Body:\n{}", jsonRequest);
-        } catch (Exception e) {
-            log.error("Failed to serialize request body to JSON", e);
+        // 요청 본문에는 이미지 base64 전체가 포함되므로 DEBUG일 때만 문자열로 만들어 로그로 남긴다.
+        if (log.isDebugEnabled()) {
+            try {
+                String jsonRequest = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(requestBody);
+                log.debug("OpenAI API Request Body:\n{}", jsonRequest);
+            } catch (Exception e) {
+                log.error("Failed to serialize request body to JSON", e);
+            }
         }
 
+        // 회로 차단기/bulkhead/API 키 선택/키별 호출량 한도(RPM/TPM)/동시 호출 한도를 통과한 뒤 호출
+        return executeApiCall(countTextChars(requestBody), countImages(requestBody), false, apiKey -> requestChatGptApi(requestBody, apiKey).block());
+    }
+
+    private Mono<ChatGPTResponse> requestChatGptApi(ChatGPTRequest requestBody, String apiKey) {
         return webClient.post()
                 .uri(this.openaiApiUrl + "/v1/chat/completions") // 주소는 이게 맞습니다.
-                .header("Authorization", "Bearer " + openaiApiKey)
-                .bodyValue(requestBody)
+                .header("Authorization", "Bearer " + apiKey)
+                // 이미지 base64를 JSON 전체 버퍼 없이 전송 버퍼에 바로 기록
+                .body(StreamingJsonBodyInserter.of(objectMapper, requestBody))
                 .retrieve()
-                .bodyToMono(ChatGPTResponse.class)
-                .block();
+                .bodyToMono(ChatGPTResponse.class);
+    }
+
+    private int countTextChars(ChatGPTRequest requestBody) {
+        return requestBody.getMessages().stream()
+                .flatMap(message -> message.getContent().stream())
+                .filter(content -> content instanceof TextContent)
+                .mapToInt(content -> ((TextContent) content).getText().length())
+                .sum();
+    }
+
+    private int countImages(ChatGPTRequest requestBody) {
+        return (int) requestBody.getMessages().stream()
+                .flatMap(message -> message.getContent().stream())
+                .filter(content -> content instanceof ImageUrlContent)
+                .count();
     }
 
     private InspectionResult parseChatGPTResponse(ChatGPTResponse response) {
+        InspectionResult result = parseChatGPTVerdict(response);
+        if (response != null && response.getUsage() != null) {
+            // ChatGPT는 입력 토큰의 이미지 몫을 따로 알려주지 않습니다.
+            Usage usage = response.getUsage();
+            result.setTokenUsage(new TokenUsage(usage.getPrompt_tokens(), 0, usage.getCompletion_tokens(), usage.getTotal_tokens()));
+        }
+        return result;
+    }
+
+    private InspectionResult parseChatGPTVerdict(ChatGPTResponse response) {
         // 1. ChatGPT API로부터 유효한 응답 후보가 있는지 확인 (Null-safety 강화)
         if (response == null || response.getChoices() == null || response.getChoices().isEmpty()
                 || response.getChoices().get(0).getMessage() == null
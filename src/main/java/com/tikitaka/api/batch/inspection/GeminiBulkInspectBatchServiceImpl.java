@@ -0,0 +1,289 @@
+package com.tikitaka.api.batch.inspection;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.tikitaka.api.batch.goods.entity.Goods;
+import com.tikitaka.api.batch.inspection.dto.BulkInspectionResult;
+import com.tikitaka.api.batch.inspection.dto.BulkJobStatus;
+import com.tikitaka.api.batch.inspection.dto.FileContent;
+import com.tikitaka.api.batch.inspection.dto.GeminiBatchRequestLine;
+import com.tikitaka.api.batch.inspection.dto.GeminiBatchResponseLine;
+import com.tikitaka.api.batch.inspection.dto.GeminiRequest;
+import com.tikitaka.api.batch.inspection.dto.InspectionResult;
+import com.tikitaka.api.global.config.HttpClientConfig;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+
+/**
+ * Gemini Batch Prediction(batchGenerateContent)으로 검수 요청을 일괄 처리합니다.
+ * 1. 요청마다 동기 호출과 같은 GeminiRequest를 만들어 {"key", "request"} 한 줄씩 JSONL 임시 파일에 기록
+ * 2. Files API(resumable upload)로 업로드한 뒤 batchGenerateContent 작업 생성
+ * 3. 작업 상태를 조회하고, 완료되면 결과 JSONL을 내려받아 key별 검수 결과로 변환
+ * 요청 본문 생성과 응답 해석은 GeminiInspectBatchServiceImpl과 동일한 로직을 사용합니다.
+ */
+@Slf4j
+@Service
+@Qualifier("geminiBulkInspectService")
+public class GeminiBulkInspectBatchServiceImpl implements BulkInspectBatchService {
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    // 요청 줄을 기록한 뒤에도 임시 파일을 계속 쓸 수 있도록 출력 대상을 닫지 않는 writer
+    private final ObjectWriter lineWriter;
+    private final GeminiInspectBatchServiceImpl geminiInspectService;
+    private final String geminiApiKey;
+    private final String geminiApiUrl;
+    private final String geminiModelName;
+
+    public GeminiBulkInspectBatchServiceImpl(@Qualifier(HttpClientConfig.GEMINI_WEB_CLIENT_BUILDER) WebClient.Builder webClientBuilder,
+                                             ObjectMapper objectMapper,
+                                             GeminiInspectBatchServiceImpl geminiInspectService,
+                                             @Value("${gemini.api.key}") String geminiApiKey,
+                                             @Value("${gemini.api.url}") String geminiApiUrl,
+                                             @Value("${gemini.batch.model_name:${gemini.api.model_name}}") String geminiModelName) {
+        this.webClient = webClientBuilder.build();
+        this.objectMapper = objectMapper;
+        this.lineWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.geminiInspectService = geminiInspectService;
+        this.geminiApiKey = geminiApiKey;
+        this.geminiApiUrl = geminiApiUrl;
+        this.geminiModelName = geminiModelName;
+    }
+
+    @Override
+    public String getProvider() {
+        return "gemini";
+    }
+
+    @Override
+    public InspectionResult performAiInspection(Goods goods, MultipartFile[] files, String forbiddenWords) throws Exception {
+        return geminiInspectService.performAiInspection(goods, files, forbiddenWords);
+    }
+
+    @Override
+    public InspectionResult performAiInspection(Goods goods, List<FileContent> fileContents, String forbiddenWords) {
+        return geminiInspectService.performAiInspection(goods, fileContents, forbiddenWords);
+    }
+
+    @Override
+    public String getInspectorId() {
+        // 일괄 처리는 gemini.batch.model_name 모델로 검수하므로 검수 결과 캐시 키도 이 모델로 구분합니다.
+        return geminiModelName;
+    }
+
+    @Override
+    public BulkSubmission newSubmission(String displayName) throws IOException {
+        return new GeminiBulkSubmission(displayName);
+    }
+
+    @Override
+    public BulkJobStatus getJobStatus(String jobName) {
+        JsonNode batch = webClient.get()
+                .uri(geminiApiUrl + "/v1beta/" + jobName + "?key={apiKey}", geminiApiKey)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block();
+        if (batch == null) {
+            return BulkJobStatus.running(jobName);
+        }
+
+        // 작업(operation) 응답은 metadata에, 작업 리소스 조회 응답은 최상위에 상태가 있습니다.
+        JsonNode metadata = batch.path("metadata");
+        String state = metadata.path("state").asText(batch.path("state").asText(""));
+        if (state.endsWith("_SUCCEEDED")) {
+            String responsesFile = firstText(batch.path("response").path("responsesFile"),
+                    metadata.path("output").path("responsesFile"),
+                    batch.path("output").path("responsesFile"));
+            if (responsesFile == null) {
+                return BulkJobStatus.failed(jobName, "결과 파일 정보가 없습니다.");
+            }
+            return BulkJobStatus.succeeded(jobName, responsesFile, null);
+        }
+        if (state.endsWith("_FAILED") || state.endsWith("_CANCELLED") || state.endsWith("_EXPIRED")) {
+            String message = batch.path("error").path("message").asText(state);
+            return BulkJobStatus.failed(jobName, message);
+        }
+        return BulkJobStatus.running(jobName);
+    }
+
+    @Override
+    public void cancelJob(String jobName) {
+        webClient.post()
+                .uri(geminiApiUrl + "/v1beta/" + jobName + ":cancel?key={apiKey}", geminiApiKey)
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+    }
+
+    @Override
+    public List<BulkInspectionResult> fetchResults(BulkJobStatus status) throws IOException {
+        Path resultFile = Files.createTempFile("gemini-batch-result-", ".jsonl");
+        try {
+            // 결과 파일은 수십 MB 이상일 수 있으므로 메모리에 올리지 않고 임시 파일로 바로 내려받습니다.
+            Flux<DataBuffer> body = webClient.get()
+                    .uri(geminiApiUrl + "/download/v1beta/" + status.getOutputRef() + ":download?alt=media&key={apiKey}", geminiApiKey)
+                    .retrieve()
+                    .bodyToFlux(DataBuffer.class);
+            DataBufferUtils.write(body, resultFile).block();
+
+            List<BulkInspectionResult> results = new ArrayList<>();
+            try (BufferedReader reader = Files.newBufferedReader(resultFile, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    GeminiBatchResponseLine responseLine = objectMapper.readValue(line, GeminiBatchResponseLine.class);
+                    if (responseLine.getError() != null) {
+                        results.add(BulkInspectionResult.failure(responseLine.getKey(), "Gemini 일괄 처리 오류: " + responseLine.getError().getMessage()));
+                    } else {
+                        results.add(BulkInspectionResult.success(responseLine.getKey(), geminiInspectService.toInspectionResult(responseLine.getResponse())));
+                    }
+                }
+            }
+            log.info("Gemini 일괄 처리 결과 {}건을 읽었습니다. (작업: {})", results.size(), status.getJobName());
+            return results;
+        } finally {
+            Files.deleteIfExists(resultFile);
+        }
+    }
+
+    private String firstText(JsonNode... nodes) {
+        for (JsonNode node : nodes) {
+            if (node.isTextual() && !node.asText().isBlank()) {
+                return node.asText();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * JSONL 임시 파일에 요청을 기록하고, submit 시 업로드 후 작업을 생성합니다.
+     */
+    private class GeminiBulkSubmission implements BulkSubmission {
+
+        private final String displayName;
+        private final Path inputFile;
+        private final BufferedWriter writer;
+        private int size;
+
+        GeminiBulkSubmission(String displayName) throws IOException {
+            this.displayName = displayName;
+            this.inputFile = Files.createTempFile("gemini-batch-", ".jsonl");
+            this.writer = Files.newBufferedWriter(inputFile, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void add(String key, Goods goods, List<FileContent> fileContents, String forbiddenWords) throws IOException {
+            GeminiRequest request = geminiInspectService.buildGeminiRequest(goods, fileContents, forbiddenWords);
+            // 이미지 base64를 문자열로 만들지 않고 임시 파일에 바로 기록
+            lineWriter.writeValue(writer, new GeminiBatchRequestLine(key, request));
+            writer.newLine();
+            size++;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public String submit() throws IOException {
+            writer.close();
+            String fileName = uploadInputFile();
+            String jobName = createBatch(fileName);
+            log.info("Gemini 일괄 처리 작업 생성 완료 - 작업: {}, 요청: {}건, 입력 파일: {}", jobName, size, fileName);
+            return jobName;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                writer.close();
+            } finally {
+                Files.deleteIfExists(inputFile);
+            }
+        }
+
+        /**
+         * Files API resumable upload: 업로드 URL을 발급받은 뒤 파일 전체를 한 번에 전송합니다.
+         * @return 업로드된 파일 이름 (files/...)
+         */
+        private String uploadInputFile() throws IOException {
+            long length = Files.size(inputFile);
+            ResponseEntity<Void> started = webClient.post()
+                    .uri(geminiApiUrl + "/upload/v1beta/files?key={apiKey}", geminiApiKey)
+                    .header("X-Goog-Upload-Protocol", "resumable")
+                    .header("X-Goog-Upload-Command", "start")
+                    .header("X-Goog-Upload-Header-Content-Length", String.valueOf(length))
+                    .header("X-Goog-Upload-Header-Content-Type", "application/jsonl")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(Map.of("file", Map.of("display_name", displayName)))
+                    .retrieve()
+                    .toBodilessEntity()
+                    .block();
+            String uploadUrl = started != null ? started.getHeaders().getFirst("X-Goog-Upload-URL") : null;
+            if (uploadUrl == null) {
+                throw new IOException("Gemini 파일 업로드 URL을 발급받지 못했습니다.");
+            }
+
+            JsonNode uploaded = webClient.post()
+                    .uri(URI.create(uploadUrl))
+                    .header("X-Goog-Upload-Command", "upload, finalize")
+                    .header("X-Goog-Upload-Offset", "0")
+                    .contentLength(length)
+                    .body(BodyInserters.fromResource(new FileSystemResource(inputFile)))
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .block();
+            String fileName = uploaded != null ? firstText(uploaded.path("file").path("name")) : null;
+            if (fileName == null) {
+                throw new IOException("Gemini 파일 업로드 응답에 파일 이름이 없습니다: " + uploaded);
+            }
+            return fileName;
+        }
+
+        private String createBatch(String fileName) throws IOException {
+            Map<String, Object> requestBody = Map.of("batch", Map.of(
+                    "display_name", displayName,
+                    "input_config", Map.of("file_name", fileName)));
+            JsonNode created = webClient.post()
+                    .uri(geminiApiUrl + "/v1beta/models/{modelName}:batchGenerateContent?key={apiKey}", geminiModelName, geminiApiKey)
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .block();
+            String jobName = created != null ? firstText(created.path("name")) : null;
+            if (jobName == null) {
+                throw new IOException("Gemini 일괄 처리 작업 생성 응답에 작업 이름이 없습니다: " + created);
+            }
+            return jobName;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.tikitaka.api.batch.inspection;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.tikitaka.api.global.config.HttpClientConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검수 프롬프트와 금칙어 목록을 Gemini cachedContents로 만들어 두고, 요청에서는 캐시 이름만 참조하도록 합니다.
+ * 캐시는 (모델, 프롬프트+금칙어 목록 내용)의 SHA-256으로 구분하므로 프롬프트를 고치거나 금칙어 동기화로 목록이 바뀌면
+ * 새 캐시를 만들고, 같은 분류의 상품들은 같은 캐시를 공유합니다. 입력 토큰과 첫 토큰까지의 시간이 줄어듭니다.
+ * 더 이상 쓰지 않는 이전 내용의 캐시는 진행 중인 요청이 참조할 수 있으므로 삭제하지 않고 TTL이 지나 만료되도록 둡니다.
+ * 생성에 실패하면(모델별 최소 토큰 수 미달 등) null을 반환하며, 호출 측은 프롬프트 전체를 보냅니다.
+ * 설정: gemini.context-cache.enabled-yn (기본 N)
+ */
+@Slf4j
+@Component
+public class GeminiContextCache {
+
+    // 생성에 실패한 내용은 이 시간 동안 다시 만들지 않고 프롬프트 전체를 보냅니다.
+    private static final Duration FAILURE_BACKOFF = Duration.ofMinutes(10);
+    // 보관 항목이 이 수를 넘으면 만료된 항목을 정리합니다.
+    private static final int CLEANUP_THRESHOLD = 1_000;
+
+    private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final String geminiApiKey;
+    private final String geminiApiUrl;
+    private final Duration ttl;
+    private final Duration minRemaining;
+
+    // 내용 해시 → 생성한 캐시. 같은 내용을 동시에 요청하면 먼저 시작한 생성 결과를 함께 기다립니다.
+    private final Map<String, CompletableFuture<CachedContent>> caches = new ConcurrentHashMap<>();
+
+    public GeminiContextCache(@Qualifier(HttpClientConfig.GEMINI_WEB_CLIENT_BUILDER) WebClient.Builder webClientBuilder,
+                              MeterRegistry meterRegistry,
+                              @Value("${gemini.context-cache.enabled-yn:N}") String enabledYn,
+                              @Value("${gemini.api.key}") String geminiApiKey,
+                              @Value("${gemini.api.url}") String geminiApiUrl,
+                              @Value("${gemini.context-cache.ttl-minutes:60}") long ttlMinutes,
+                              @Value("${gemini.context-cache.min-remaining-minutes:5}") long minRemainingMinutes) {
+        this.webClient = webClientBuilder.build();
+        this.meterRegistry = meterRegistry;
+        this.enabled = "Y".equalsIgnoreCase(enabledYn);
+        this.geminiApiKey = geminiApiKey;
+        this.geminiApiUrl = geminiApiUrl;
+        this.ttl = Duration.ofMinutes(Math.max(1, ttlMinutes));
+        this.minRemaining = Duration.ofMinutes(Math.max(0, Math.min(minRemainingMinutes, this.ttl.toMinutes() / 2)));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 고정 프롬프트에 해당하는 캐시 이름(cachedContents/...)을 반환합니다. 없거나 곧 만료되면 새로 만듭니다.
+     * @param modelName 캐시를 사용할 모델 (캐시는 모델별로 만들어야 함)
+     * @param prefix 프롬프트와 금칙어 목록 등 상품과 무관한 고정 내용
+     * @return 캐시 이름, 생성에 실패했으면 null (프롬프트 전체 전송)
+     */
+    public String resolve(String modelName, String prefix) {
+        String hash = sha256(modelName, prefix);
+        while (true) {
+            CompletableFuture<CachedContent> existing = caches.get(hash);
+            if (existing != null) {
+                CachedContent cached = join(existing);
+                if (cached != null && cached.name() == null && Instant.now().isBefore(cached.expiresAt())) {
+                    // 최근에 생성에 실패한 내용
+                    count("fallback");
+                    return null;
+                }
+                if (cached != null && cached.name() != null && cached.isUsable(minRemaining)) {
+                    count("hit");
+                    return cached.name();
+                }
+                // 만료가 임박했거나 실패 후 대기 시간이 지난 항목은 제거 후 다시 만듭니다.
+                caches.remove(hash, existing);
+                continue;
+            }
+
+            CompletableFuture<CachedContent> creation = new CompletableFuture<>();
+            if (caches.putIfAbsent(hash, creation) != null) {
+                continue;
+            }
+            cleanupIfNeeded();
+            try {
+                CachedContent created = create(modelName, prefix);
+                creation.complete(created);
+                count("create");
+                log.info("Gemini 컨텍스트 캐시 생성 - {} (만료: {})", created.name(), created.expiresAt());
+                return created.name();
+            } catch (Exception e) {
+                log.warn("Gemini 컨텍스트 캐시 생성 실패 - {}분 동안 프롬프트 전체를 전송합니다. (원인: {})", FAILURE_BACKOFF.toMinutes(), e.getMessage());
+                creation.complete(new CachedContent(null, Instant.now().plus(FAILURE_BACKOFF)));
+                count("fallback");
+                return null;
+            }
+        }
+    }
+
+    private CachedContent create(String modelName, String prefix) {
+        Map<String, Object> body = Map.of(
+                "model", "models/" + modelName,
+                "displayName", "goods-inspection-prompt",
+                "contents", List.of(Map.of("role", "user", "parts", List.of(Map.of("text", prefix)))),
+                "ttl", ttl.toSeconds() + "s");
+        JsonNode created = webClient.post()
+                .uri(geminiApiUrl + "/v1beta/cachedContents?key={apiKey}", geminiApiKey)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block();
+        String name = created != null ? created.path("name").asText(null) : null;
+        if (name == null || name.isBlank()) {
+            throw new IllegalStateException("캐시 생성 응답에 이름이 없습니다: " + created);
+        }
+        return new CachedContent(name, parseExpireTime(created.path("expireTime").asText(null)));
+    }
+
+    private Instant parseExpireTime(String expireTime) {
+        if (expireTime != null) {
+            try {
+                return Instant.parse(expireTime);
+            } catch (DateTimeParseException e) {
+                log.debug("Gemini 컨텍스트 캐시 만료 시각 해석 실패: {}", expireTime);
+            }
+        }
+        return Instant.now().plus(ttl);
+    }
+
+    private void cleanupIfNeeded() {
+        if (caches.size() <= CLEANUP_THRESHOLD) {
+            return;
+        }
+        caches.entrySet().removeIf(entry -> {
+            CompletableFuture<CachedContent> future = entry.getValue();
+            if (!future.isDone()) {
+                return false;
+            }
+            CachedContent cached = future.getNow(null);
+            return cached == null || !Instant.now().isBefore(cached.expiresAt());
+        });
+    }
+
+    private CachedContent join(CompletableFuture<CachedContent> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            return null;
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("ai.context.cache", "provider", "gemini", "result", result).increment();
+    }
+
+    private String sha256(String modelName, String prefix) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(modelName.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(prefix.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // name이 null이면 생성 실패 기록 (expiresAt까지 다시 만들지 않음)
+    private record CachedContent(String name, Instant expiresAt) {
+
+        boolean isUsable(Duration minRemaining) {
+            return Instant.now().plus(minRemaining).isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.tikitaka.api.batch.inspection;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.tikitaka.api.global.config.HttpClientConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검수 이미지를 Gemini Files API에 한 번만 업로드하고, 요청에서는 fileData(URI)로 참조하도록 합니다.
+ * 업로드한 파일은 이미지 내용의 SHA-256 해시로 만료 시각과 함께 보관하므로, 같은 상품의 재시도나
+ * 여러 상품이 공유하는 이미지는 다시 base64로 인코딩/전송하지 않습니다.
+ * 업로드에 실패하면 null을 반환하며, 호출 측은 기존처럼 inlineData로 전송합니다.
+ * 설정: gemini.file-api.enabled-yn (기본 N)
+ */
+@Slf4j
+@Component
+public class GeminiFileStore {
+
+    // 업로드 응답에 만료 시각이 없을 때 사용할 보관 기간 (Files API 기본 보관 기간 48시간보다 짧게)
+    private static final Duration DEFAULT_TTL = Duration.ofHours(47);
+    // 보관 항목이 이 수를 넘으면 만료된 항목을 정리합니다.
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final String geminiApiKey;
+    private final String geminiApiUrl;
+    private final Duration minRemaining;
+
+    // 이미지 해시 → 업로드 결과. 같은 이미지를 동시에 요청하면 먼저 시작한 업로드 결과를 함께 기다립니다.
+    private final Map<String, CompletableFuture<UploadedFile>> files = new ConcurrentHashMap<>();
+
+    public GeminiFileStore(@Qualifier(HttpClientConfig.GEMINI_WEB_CLIENT_BUILDER) WebClient.Builder webClientBuilder,
+                           MeterRegistry meterRegistry,
+                           @Value("${gemini.file-api.enabled-yn:N}") String enabledYn,
+                           @Value("${gemini.api.key}") String geminiApiKey,
+                           @Value("${gemini.api.url}") String geminiApiUrl,
+                           @Value("${gemini.file-api.min-remaining-minutes:60}") long minRemainingMinutes) {
+        this.webClient = webClientBuilder.build();
+        this.meterRegistry = meterRegistry;
+        this.enabled = "Y".equalsIgnoreCase(enabledYn);
+        this.geminiApiKey = geminiApiKey;
+        this.geminiApiUrl = geminiApiUrl;
+        this.minRemaining = Duration.ofMinutes(Math.max(0, minRemainingMinutes));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 이미지에 해당하는 업로드 파일 URI를 반환합니다. 보관 중인 파일이 없거나 곧 만료되면 새로 업로드합니다.
+     * @return 파일 URI, 업로드에 실패하면 null (inlineData로 전송)
+     */
+    public String resolveUri(String mimeType, byte[] content) {
+        String hash = sha256(mimeType, content);
+        while (true) {
+            CompletableFuture<UploadedFile> existing = files.get(hash);
+            if (existing != null) {
+                UploadedFile uploaded = join(existing);
+                if (uploaded == null) {
+                    // 함께 기다린 업로드가 실패했으면 이번 요청은 inlineData로 전송합니다.
+                    count("fallback");
+                    return null;
+                }
+                if (uploaded.isUsable(minRemaining)) {
+                    count("hit");
+                    return uploaded.uri();
+                }
+                // 만료가 임박한 항목은 제거 후 다시 업로드합니다.
+                files.remove(hash, existing);
+                continue;
+            }
+
+            CompletableFuture<UploadedFile> upload = new CompletableFuture<>();
+            if (files.putIfAbsent(hash, upload) != null) {
+                continue;
+            }
+            cleanupIfNeeded();
+            try {
+                UploadedFile uploaded = upload(mimeType, content);
+                upload.complete(uploaded);
+                count("upload");
+                return uploaded.uri();
+            } catch (Exception e) {
+                log.warn("Gemini 이미지 업로드 실패 - inlineData로 전송합니다. (크기: {} bytes, 원인: {})", content.length, e.getMessage());
+                files.remove(hash, upload);
+                upload.complete(null);
+                count("fallback");
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Files API resumable upload: 업로드 URL을 발급받은 뒤 이미지 전체를 한 번에 전송합니다.
+     */
+    private UploadedFile upload(String mimeType, byte[] content) {
+        ResponseEntity<Void> started = webClient.post()
+                .uri(geminiApiUrl + "/upload/v1beta/files?key={apiKey}", geminiApiKey)
+                .header("X-Goog-Upload-Protocol", "resumable")
+                .header("X-Goog-Upload-Command", "start")
+                .header("X-Goog-Upload-Header-Content-Length", String.valueOf(content.length))
+                .header("X-Goog-Upload-Header-Content-Type", mimeType)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("file", Map.of()))
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+        String uploadUrl = started != null ? started.getHeaders().getFirst("X-Goog-Upload-URL") : null;
+        if (uploadUrl == null) {
+            throw new IllegalStateException("업로드 URL을 발급받지 못했습니다.");
+        }
+
+        JsonNode uploaded = webClient.post()
+                .uri(URI.create(uploadUrl))
+                .header("X-Goog-Upload-Command", "upload, finalize")
+                .header("X-Goog-Upload-Offset", "0")
+                .contentLength(content.length)
+                .bodyValue(content)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block();
+        JsonNode file = uploaded != null ? uploaded.path("file") : null;
+        String uri = file != null ? file.path("uri").asText(null) : null;
+        if (uri == null || uri.isBlank()) {
+            throw new IllegalStateException("업로드 응답에 파일 URI가 없습니다: " + uploaded);
+        }
+        return new UploadedFile(uri, parseExpiration(file.path("expirationTime").asText(null)));
+    }
+
+    private Instant parseExpiration(String expirationTime) {
+        if (expirationTime != null) {
+            try {
+                return Instant.parse(expirationTime);
+            } catch (DateTimeParseException e) {
+                log.debug("Gemini 파일 만료 시각 해석 실패: {}", expirationTime);
+            }
+        }
+        return Instant.now().plus(DEFAULT_TTL);
+    }
+
+    private void cleanupIfNeeded() {
+        if (files.size() <= CLEANUP_THRESHOLD) {
+            return;
+        }
+        files.entrySet().removeIf(entry -> {
+            CompletableFuture<UploadedFile> future = entry.getValue();
+            if (!future.isDone()) {
+                return false;
+            }
+            UploadedFile uploaded = future.getNow(null);
+            return uploaded == null || !uploaded.isUsable(minRemaining);
+        });
+    }
+
+    private UploadedFile join(CompletableFuture<UploadedFile> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            return null;
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("ai.file.upload", "provider", "gemini", "result", result).increment();
+    }
+
+    private String sha256(String mimeType, byte[] content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(mimeType.getBytes(StandardCharsets.UTF_8));
+            digest.update(content);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record UploadedFile(String uri, Instant expiresAt) {
+
+        boolean isUsable(Duration minRemaining) {
+            return Instant.now().plus(minRemaining).isBefore(expiresAt);
+        }
+    }
+}
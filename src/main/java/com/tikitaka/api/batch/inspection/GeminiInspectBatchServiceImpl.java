@@ -1,49 +1,80 @@
 package com.tikitaka.api.batch.inspection;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tikitaka.api.batch.goods.entity.Goods;
 import com.tikitaka.api.batch.inspection.dto.*;
+import com.tikitaka.api.batch.inspection.ratelimit.AdaptiveConcurrencyLimiterRegistry;
+import com.tikitaka.api.batch.inspection.ratelimit.AiApiKeyPoolRegistry;
+import com.tikitaka.api.batch.inspection.resilience.AiResilienceRegistry;
+import com.tikitaka.api.global.config.HttpClientConfig;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 import org.springframework.util.FileCopyUtils;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Service
 @Qualifier("geminiInspectService")
-@Primary // 기본 구현체로 지정
+//@Primary // 기본 구현체는 RoutingInspectBatchService (ai.routing.primary로 주 제공자 선택)
 public class GeminiInspectBatchServiceImpl extends AbstractInspectBatchService {
 
-    private final String geminiApiKey;
     private final String geminiApiUrl;
     private final String geminiModelName;
     private final String promptTemplate;
+    private final String packedPromptTemplate;
+    private final String cachedPromptTemplate;
+    private final GeminiFileStore geminiFileStore;
+    private final GeminiContextCache contextCache;
+    private final ObjectMapper objectMapper;
+    private final boolean streamingEnabled;
+    private final int streamMaxOutputTokens;
     
-    public GeminiInspectBatchServiceImpl(WebClient.Builder webClientBuilder,
-                                    @Value("${gemini.api.key}") String geminiApiKey,
+    public GeminiInspectBatchServiceImpl(@Qualifier(HttpClientConfig.GEMINI_WEB_CLIENT_BUILDER) WebClient.Builder webClientBuilder,
+                                    AiApiKeyPoolRegistry apiKeyPoolRegistry,
+                                    AdaptiveConcurrencyLimiterRegistry concurrencyLimiterRegistry,
+                                    AiResilienceRegistry resilienceRegistry,
+                                    GeminiFileStore geminiFileStore,
+                                    GeminiContextCache contextCache,
+                                    ObjectMapper objectMapper,
                                     @Value("${gemini.api.url}") String geminiApiUrl,
                                     @Value("${gemini.api.model_name}") String geminiModelName,
-                                    @Value("classpath:prompts/gemini-goods-inspection-prompt.txt") Resource promptResource) {
+                                    @Value("${gemini.stream.enabled-yn:N}") String streamingYn,
+                                    @Value("${gemini.stream.max-output-tokens:256}") int streamMaxOutputTokens,
+                                    @Value("classpath:prompts/gemini-goods-inspection-prompt.txt") Resource promptResource,
+                                    @Value("classpath:prompts/gemini-multi-goods-inspection-prompt.txt") Resource packedPromptResource,
+                                    @Value("classpath:prompts/gemini-cached-inspection-prompt.txt") Resource cachedPromptResource) {
         // 부모 클래스에 공통 의존성 전달
-        super(webClientBuilder);
+        super(webClientBuilder, apiKeyPoolRegistry, concurrencyLimiterRegistry, resilienceRegistry, "gemini");
         // 자신에게만 필요한 의존성 초기화
-        this.geminiApiKey = geminiApiKey;
         this.geminiApiUrl = geminiApiUrl;
         this.geminiModelName = geminiModelName;	// gemini-2.0-flash
+        this.geminiFileStore = geminiFileStore;
+        this.contextCache = contextCache;
+        this.objectMapper = objectMapper;
+        this.streamingEnabled = "Y".equalsIgnoreCase(streamingYn);
+        this.streamMaxOutputTokens = streamMaxOutputTokens;
         
         try (Reader reader = new InputStreamReader(promptResource.getInputStream(), StandardCharsets.UTF_8)) {
             this.promptTemplate = FileCopyUtils.copyToString(reader);
@@ -51,6 +82,16 @@ public class GeminiInspectBatchServiceImpl extends AbstractInspectBatchService {
         } catch (IOException e) {
             throw new RuntimeException("프롬프트 파일 로드 실패: prompts/gemini-goods-inspection-prompt.txt", e);
         }
+        try (Reader reader = new InputStreamReader(packedPromptResource.getInputStream(), StandardCharsets.UTF_8)) {
+            this.packedPromptTemplate = FileCopyUtils.copyToString(reader);
+        } catch (IOException e) {
+            throw new RuntimeException("프롬프트 파일 로드 실패: prompts/gemini-multi-goods-inspection-prompt.txt", e);
+        }
+        try (Reader reader = new InputStreamReader(cachedPromptResource.getInputStream(), StandardCharsets.UTF_8)) {
+            this.cachedPromptTemplate = FileCopyUtils.copyToString(reader);
+        } catch (IOException e) {
+            throw new RuntimeException("프롬프트 파일 로드 실패: prompts/gemini-cached-inspection-prompt.txt", e);
+        }
     }
 
     @Override
@@ -76,10 +117,59 @@ public class GeminiInspectBatchServiceImpl extends AbstractInspectBatchService {
         // 4. Gemini 응답 파싱 및 반환
         return parseGeminiResponse(geminiResponse);
     }
+
+    @Override
+    public Mono<InspectionResult> performAiInspectionReactive(Goods goods, List<FileContent> fileContents, String forbiddenWords) {
+        Mono<GeminiRequest> request = Mono.fromSupplier(() -> createGeminiRequest(goods, createPartsFromFileContents(fileContents), forbiddenWords));
+        if (geminiFileStore.isEnabled() || contextCache.isEnabled()) {
+            // 이미지 업로드(Files API)와 컨텍스트 캐시 생성은 block하므로 이벤트 루프가 아닌 별도 스레드에서 요청 본문을 만듭니다.
+            request = request.subscribeOn(Schedulers.boundedElastic());
+        }
+        return request.flatMap(requestBody ->
+                executeApiCallReactive(countTextChars(requestBody), countImages(requestBody), requiresPrimaryKey(requestBody),
+                        apiKey -> requestVerdict(requestBody, apiKey))
+                        // 응답 본문이 없는 경우에도 parseGeminiResponse가 '유효한 응답 없음'으로 처리하도록 합니다.
+                        .map(this::parseGeminiResponse)
+                        .switchIfEmpty(Mono.fromSupplier(() -> parseGeminiResponse(null))));
+    }
+    
+    /**
+     * 여러 상품을 호출 1번으로 검수합니다. (묶음 검수, GeminiPackedInspectionService에서 호출)
+     * 프롬프트와 금칙어 목록은 한 번만 보내고, 상품코드별 판정을 JSON 배열로 받아 상품별 결과로 나눕니다.
+     * @param items 같은 금칙어 목록이 적용되는 상품 (상품코드가 서로 달라야 함)
+     * @return 상품코드별 검수 결과. 응답에서 찾지 못한 상품이나 요청 전체가 차단된 경우 해당 상품은 포함되지 않습니다.
+     */
+    public Mono<Map<String, InspectionResult>> performPackedInspectionReactive(List<PackedGoods> items, String forbiddenWords) {
+        List<String> goodsCodes = items.stream().map(item -> item.getGoods().getGoodsCode()).toList();
+        Mono<GeminiRequest> request = Mono.fromSupplier(() -> createPackedGeminiRequest(items, forbiddenWords));
+        if (geminiFileStore.isEnabled()) {
+            request = request.subscribeOn(Schedulers.boundedElastic());
+        }
+        return request.flatMap(requestBody ->
+                executeApiCallReactive(countTextChars(requestBody), countImages(requestBody), requiresPrimaryKey(requestBody),
+                        apiKey -> requestGeminiApi(requestBody, apiKey))
+                        .map(response -> parsePackedGeminiResponse(response, goodsCodes))
+                        .switchIfEmpty(Mono.fromSupplier(() -> parsePackedGeminiResponse(null, goodsCodes))));
+    }
+
+    /**
+     * Batch Prediction(GeminiBulkInspectBatchServiceImpl)이 동기 호출과 같은 요청 본문을 사용하도록 제공합니다.
+     */
+    GeminiRequest buildGeminiRequest(Goods goods, List<FileContent> fileContents, String forbiddenWords) {
+        // 작업이 끝날 때까지 수 시간이 걸릴 수 있어, 만료될 수 있는 컨텍스트 캐시는 사용하지 않습니다.
+        return createGeminiRequest(goods, createPartsFromFileContents(fileContents), forbiddenWords, false);
+    }
+
+    /**
+     * Batch Prediction 결과 파일의 응답도 동기 호출과 같은 기준으로 해석합니다.
+     */
+    InspectionResult toInspectionResult(GeminiResponse response) {
+        return parseGeminiResponse(response);
+    }
     
     // --- 아래부터는 모두 GeminiInspectService에만 종속적인 Private Helper Methods ---
 	@Override
-	protected String getInspectorId() {
+	public String getInspectorId() {
 		return geminiModelName;
 	}
 
@@ -91,9 +181,7 @@ public class GeminiInspectBatchServiceImpl extends AbstractInspectBatchService {
             	String fileName = String.format("--- 첨부 이미지 파일명: %s ---", file.getOriginalFilename());
                 log.debug("파일명 : {}", fileName);
                 imageParts.add(new GeminiRequest.Part(fileName));
-                byte[] fileBytes = file.getBytes();
-                String base64EncodedImage = Base64.getEncoder().encodeToString(fileBytes);
-                imageParts.add(new GeminiRequest.Part(new GeminiRequest.InlineData(file.getContentType(), base64EncodedImage)));
+                imageParts.add(new GeminiRequest.Part(new GeminiRequest.InlineData(file.getContentType(), file.getBytes())));
             }
         }
         return imageParts;
@@ -127,20 +215,50 @@ public class GeminiInspectBatchServiceImpl extends AbstractInspectBatchService {
                 }
 
                 // 4. 이미지 데이터 파트 추가
-                String base64EncodedImage = Base64.getEncoder().encodeToString(file.getContent());
-                imageParts.add(new GeminiRequest.Part(new GeminiRequest.InlineData(mimeType, base64EncodedImage)));
+                //    Files API 사용 시 같은 이미지는 한 번만 업로드하고 URI로 참조 (재시도/공유 이미지의 재전송 방지)
+                if (geminiFileStore.isEnabled()) {
+                    String fileUri = geminiFileStore.resolveUri(mimeType, file.getContent());
+                    if (fileUri != null) {
+                        imageParts.add(new GeminiRequest.Part(new GeminiRequest.FileData(mimeType, fileUri)));
+                        continue;
+                    }
+                }
+                //    (base64 인코딩은 요청 전송 시 스트리밍으로 수행)
+                imageParts.add(new GeminiRequest.Part(new GeminiRequest.InlineData(mimeType, file.getContent())));
             }
         }
         return imageParts;
     }
 
     private GeminiRequest createGeminiRequest(Goods goods, List<GeminiRequest.Part> imageParts, String forbiddenWords) {
+        return createGeminiRequest(goods, imageParts, forbiddenWords, contextCache.isEnabled());
+    }
+
+    private GeminiRequest createGeminiRequest(Goods goods, List<GeminiRequest.Part> imageParts, String forbiddenWords, boolean useContextCache) {
+        if (useContextCache) {
+            // 프롬프트와 금칙어 목록은 캐시로 참조하고, 요청에는 상품 정보와 이미지만 담습니다.
+            String cachedContent = contextCache.resolve(geminiModelName, String.format(this.cachedPromptTemplate, forbiddenWords));
+            if (cachedContent != null) {
+                List<GeminiRequest.Part> parts = new ArrayList<>();
+                parts.add(new GeminiRequest.Part(describeGoods(goods)));
+                parts.addAll(imageParts);
+                GeminiRequest request = new GeminiRequest(List.of(new GeminiRequest.Content(parts)), createSafetySettings());
+                request.setCachedContent(cachedContent);
+                return request;
+            }
+        }
+
         List<GeminiRequest.Part> parts = new ArrayList<>();
         parts.add(new GeminiRequest.Part(createPromptForCheckForbiddenWords(goods, forbiddenWords)));
         parts.addAll(imageParts);
         
         List<GeminiRequest.Content> contents = List.of(new GeminiRequest.Content(parts));
-        
+
+        // 생성자를 통해 safetySettings 전달
+        return new GeminiRequest(contents, createSafetySettings());
+    }
+
+    private List<GeminiRequest.SafetySetting> createSafetySettings() {
         // [안전 설정 추가]
         List<GeminiRequest.SafetySetting> safetySettings = new ArrayList<>();
         // 선정성 필터 해제 (가장 중요)
@@ -149,39 +267,285 @@ public class GeminiInspectBatchServiceImpl extends AbstractInspectBatchService {
         safetySettings.add(new GeminiRequest.SafetySetting("HARM_CATEGORY_HATE_SPEECH", "BLOCK_NONE"));
         safetySettings.add(new GeminiRequest.SafetySetting("HARM_CATEGORY_HARASSMENT", "BLOCK_NONE"));
         safetySettings.add(new GeminiRequest.SafetySetting("HARM_CATEGORY_DANGEROUS_CONTENT", "BLOCK_NONE"));
-
-        // 생성자를 통해 safetySettings 전달
-        return new GeminiRequest(contents, safetySettings);
+        return safetySettings;
     }
     
+    private GeminiRequest createPackedGeminiRequest(List<PackedGoods> items, String forbiddenWords) {
+        List<GeminiRequest.Part> parts = new ArrayList<>();
+        parts.add(new GeminiRequest.Part(String.format(this.packedPromptTemplate, items.size(), forbiddenWords)));
+        // 상품마다 상품 정보 텍스트 뒤에 그 상품의 이미지를 붙여, 이미지가 어느 상품의 것인지 구분되도록 합니다.
+        for (PackedGoods item : items) {
+            Goods goods = item.getGoods();
+            parts.add(new GeminiRequest.Part(String.format("=== 상품코드: %s ===%n%s", goods.getGoodsCode(), describeGoods(goods))));
+            parts.addAll(createPartsFromFileContents(item.getFileContents()));
+        }
+
+        GeminiRequest request = new GeminiRequest(List.of(new GeminiRequest.Content(parts)), createSafetySettings());
+        // 판정을 상품별로 나눌 수 있도록 JSON으로만 응답하게 합니다.
+        request.setGenerationConfig(new GeminiRequest.GenerationConfig("application/json", null));
+        return request;
+    }
+
     private GeminiResponse callGeminiApi(GeminiRequest requestBody) {
-    	String urlTemplate = geminiApiUrl + "/v1/models/{modelName}:generateContent?key={apiKey}";
+        // 회로 차단기/bulkhead/API 키 선택/키별 호출량 한도(RPM/TPM)/동시 호출 한도를 통과한 뒤 호출
+        return executeApiCall(countTextChars(requestBody), countImages(requestBody), requiresPrimaryKey(requestBody),
+                apiKey -> requestVerdict(requestBody, apiKey).block());
+    }
+
+    /**
+     * 단건 검수 판정을 요청합니다. gemini.stream.enabled-yn=Y이면 스트리밍으로 받아 판정이 확정되는 즉시 응답 수신을 중단합니다.
+     */
+    private Mono<GeminiResponse> requestVerdict(GeminiRequest requestBody, String apiKey) {
+        if (!streamingEnabled) {
+            return requestGeminiApi(requestBody, apiKey);
+        }
+        // 판정 한 줄만 필요하므로 출력 토큰을 제한합니다.
+        requestBody.setGenerationConfig(new GeminiRequest.GenerationConfig(null, streamMaxOutputTokens > 0 ? streamMaxOutputTokens : null));
+        return requestGeminiApiStreaming(requestBody, apiKey);
+    }
+
+    /**
+     * streamGenerateContent(SSE)로 응답을 받으면서 누적 텍스트를 확인하고, 판정이 확정되면 스트림을 취소합니다.
+     * 받은 텍스트를 하나의 응답으로 합쳐 반환하므로 이후 처리(parseGeminiResponse)는 일반 호출과 같습니다.
+     */
+    private Mono<GeminiResponse> requestGeminiApiStreaming(GeminiRequest requestBody, String apiKey) {
+        String urlTemplate = geminiApiUrl + "/{version}/models/{modelName}:streamGenerateContent?alt=sse&key={apiKey}";
         Map<String, String> uriVariables = Map.of(
+                "version", apiVersion(requestBody),
                 "modelName", geminiModelName,
-                "apiKey", geminiApiKey
+                "apiKey", apiKey
         );
-        
-        try {
-            return webClient.post()
+
+        return Mono.defer(() -> {
+            StringBuilder text = new StringBuilder();
+            AtomicReference<GeminiResponse.PromptFeedback> promptFeedback = new AtomicReference<>();
+            AtomicReference<GeminiResponse.UsageMetadata> usageMetadata = new AtomicReference<>();
+            Flux<GeminiResponse> chunks = webClient.post()
                     .uri(urlTemplate, uriVariables)
-                    .bodyValue(requestBody)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .body(StreamingJsonBodyInserter.of(objectMapper, requestBody))
                     .retrieve()
-                    .bodyToMono(GeminiResponse.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("Gemini API 호출 중 오류 발생 - Status: {}, Response Body: {}",
-                    e.getStatusCode(),
-                    e.getResponseBodyAsString(StandardCharsets.UTF_8));
-            throw e;
+                    .bodyToFlux(GeminiResponse.class)
+                    .doOnError(WebClientResponseException.class, e -> log.error("Gemini API 호출 중 오류 발생 - Status: {}, Response Body: {}",
+                            e.getStatusCode(),
+                            e.getResponseBodyAsString(StandardCharsets.UTF_8)));
+
+            return chunks
+                    .doOnNext(chunk -> {
+                        if (chunk.getPromptFeedback() != null && chunk.getPromptFeedback().getBlockReason() != null) {
+                            promptFeedback.set(chunk.getPromptFeedback());
+                        }
+                        // 사용량은 청크마다 그 시점까지의 누적값으로 오므로 마지막 값을 사용합니다.
+                        if (chunk.getUsageMetadata() != null) {
+                            usageMetadata.set(chunk.getUsageMetadata());
+                        }
+                        appendText(text, chunk);
+                    })
+                    // 판정이 확정되면 takeUntil이 완료되면서 나머지 응답 수신(연결)을 취소합니다.
+                    .takeUntil(chunk -> promptFeedback.get() != null || isVerdictComplete(text))
+                    .then(Mono.fromSupplier(() -> toStreamedResponse(text, promptFeedback.get(), usageMetadata.get())));
+        });
+    }
+
+    private void appendText(StringBuilder text, GeminiResponse chunk) {
+        if (chunk.getCandidates() == null || chunk.getCandidates().isEmpty()
+                || chunk.getCandidates().get(0).getContent() == null
+                || chunk.getCandidates().get(0).getContent().getParts() == null) {
+            return;
+        }
+        for (GeminiResponse.Part part : chunk.getCandidates().get(0).getContent().getParts()) {
+            if (part.getText() != null) {
+                text.append(part.getText());
+            }
+        }
+    }
+
+    /**
+     * 스트리밍 중 누적된 응답으로 판정이 확정되었는지 확인합니다.
+     * "승인"은 접두어만으로, "반려:금칙어:사유"는 사유가 있는 첫 줄이 끝나면 확정하며, 두 접두어가 아니면 판독 불가로 확정합니다.
+     */
+    private boolean isVerdictComplete(CharSequence text) {
+        String verdict = text.toString().stripLeading();
+        if (verdict.length() < 2) {
+            return false;
+        }
+        if (!verdict.startsWith("반려")) {
+            return true;
+        }
+        return verdict.indexOf('\n') > 0;
+    }
+
+    /**
+     * 스트리밍으로 받은 내용을 일반 호출 응답 형태로 합칩니다. (반려는 사유가 있는 첫 줄까지만 사용)
+     * @return 받은 내용이 없으면 null
+     */
+    private GeminiResponse toStreamedResponse(StringBuilder text, GeminiResponse.PromptFeedback promptFeedback,
+                                              GeminiResponse.UsageMetadata usageMetadata) {
+        GeminiResponse response = new GeminiResponse();
+        response.setUsageMetadata(usageMetadata);
+        if (promptFeedback != null) {
+            response.setPromptFeedback(promptFeedback);
+            return response;
+        }
+        String verdict = text.toString().strip();
+        if (verdict.isEmpty()) {
+            return null;
         }
+        int lineEnd = verdict.indexOf('\n');
+        if (lineEnd > 0) {
+            verdict = verdict.substring(0, lineEnd).strip();
+        }
+
+        GeminiResponse.Part part = new GeminiResponse.Part();
+        part.setText(verdict);
+        GeminiResponse.Content content = new GeminiResponse.Content();
+        content.setParts(List.of(part));
+        GeminiResponse.Candidate candidate = new GeminiResponse.Candidate();
+        candidate.setContent(content);
+        response.setCandidates(List.of(candidate));
+        return response;
+    }
+
+    private Mono<GeminiResponse> requestGeminiApi(GeminiRequest requestBody, String apiKey) {
+    	String urlTemplate = geminiApiUrl + "/{version}/models/{modelName}:generateContent?key={apiKey}";
+        Map<String, String> uriVariables = Map.of(
+                "version", apiVersion(requestBody),
+                "modelName", geminiModelName,
+                "apiKey", apiKey
+        );
+
+        return webClient.post()
+                .uri(urlTemplate, uriVariables)
+                // 이미지 base64를 JSON 전체 버퍼 없이 전송 버퍼에 바로 기록
+                .body(StreamingJsonBodyInserter.of(objectMapper, requestBody))
+                .retrieve()
+                .bodyToMono(GeminiResponse.class)
+                .doOnError(WebClientResponseException.class, e -> log.error("Gemini API 호출 중 오류 발생 - Status: {}, Response Body: {}",
+                        e.getStatusCode(),
+                        e.getResponseBodyAsString(StandardCharsets.UTF_8)));
+    }
+
+
+    // 컨텍스트 캐시(cachedContent)는 v1beta에서 지원합니다.
+    private String apiVersion(GeminiRequest requestBody) {
+        return requestBody.getCachedContent() != null ? "v1beta" : "v1";
     }
 
+    // Files API 업로드와 컨텍스트 캐시는 기본 API 키(프로젝트)로 만들었으므로, 이를 참조하는 요청은 같은 키로만 호출할 수 있습니다.
+    private boolean requiresPrimaryKey(GeminiRequest requestBody) {
+        return requestBody.getCachedContent() != null || requestBody.getContents().stream()
+                .flatMap(content -> content.getParts().stream())
+                .anyMatch(part -> part.getFileData() != null);
+    }
+
+    private int countTextChars(GeminiRequest requestBody) {
+        return requestBody.getContents().stream()
+                .flatMap(content -> content.getParts().stream())
+                .filter(part -> part.getText() != null)
+                .mapToInt(part -> part.getText().length())
+                .sum();
+    }
+
+    private int countImages(GeminiRequest requestBody) {
+        return (int) requestBody.getContents().stream()
+                .flatMap(content -> content.getParts().stream())
+                .filter(part -> part.getInlineData() != null || part.getFileData() != null)
+                .count();
+    }
 
     private InspectionResult parseGeminiResponse(GeminiResponse response) {
     	if (response != null && response.getCandidates() != null && !response.getCandidates().isEmpty()) {
             log.info("Gemini 응답 상세 확인: {}", response); 
         }
 
+        InspectionResult invalidResult = checkGeminiResponse(response);
+        if (invalidResult != null) {
+            invalidResult.setTokenUsage(toTokenUsage(response, 1));
+            return invalidResult;
+        }
+        
+        // 2. 응답 텍스트 추출
+        String textResponse = response.getCandidates().get(0).getContent().getParts().get(0).getText().trim();
+        log.info("Gemini API 응답: {}", textResponse);
+
+        InspectionResult result = parseVerdict(textResponse);
+        result.setTokenUsage(toTokenUsage(response, 1));
+        return result;
+    }
+
+    /**
+     * 묶음 검수 응답([{"goodsCode": "...", "result": "승인|반려:금칙어:사유"}, ...])을 상품코드별 결과로 나눕니다.
+     * 상품별 판정은 단건 검수 응답과 같은 기준(parseVerdict)으로 해석합니다.
+     * @param goodsCodes 요청에 포함한 상품코드 (응답에 다른 상품코드가 있으면 무시)
+     * @return 상품코드별 결과. 요청 전체가 차단되었거나 응답을 해석할 수 없으면 빈 Map
+     */
+    private Map<String, InspectionResult> parsePackedGeminiResponse(GeminiResponse response, List<String> goodsCodes) {
+        Map<String, InspectionResult> results = new LinkedHashMap<>();
+        InspectionResult invalidResult = checkGeminiResponse(response);
+        if (invalidResult != null) {
+            // 어느 상품 때문인지 알 수 없으므로 결과를 나누지 않고, 호출한 쪽에서 상품별로 다시 검수하도록 합니다.
+            log.warn("Gemini 묶음 검수({}건) 응답을 사용할 수 없습니다. 사유: {}", goodsCodes.size(), invalidResult.getReason());
+            return results;
+        }
+
+        StringBuilder text = new StringBuilder();
+        for (GeminiResponse.Part part : response.getCandidates().get(0).getContent().getParts()) {
+            if (part.getText() != null) {
+                text.append(part.getText());
+            }
+        }
+        log.info("Gemini 묶음 검수 응답({}건): {}", goodsCodes.size(), text);
+
+        JsonNode verdicts;
+        try {
+            verdicts = objectMapper.readTree(stripCodeFence(text.toString().trim()));
+        } catch (IOException e) {
+            log.warn("Gemini 묶음 검수 응답이 JSON 형식이 아닙니다: {}", e.getMessage());
+            return results;
+        }
+
+        // 호출 1번의 토큰은 묶은 상품 수로 나누어 상품별로 기록합니다.
+        TokenUsage tokenUsage = toTokenUsage(response, goodsCodes.size());
+        Set<String> requestedCodes = new HashSet<>(goodsCodes);
+        for (JsonNode verdict : verdicts) {
+            String goodsCode = verdict.path("goodsCode").asText(null);
+            String result = verdict.path("result").asText(null);
+            if (goodsCode == null || result == null || !requestedCodes.contains(goodsCode.trim())) {
+                continue;
+            }
+            InspectionResult inspectionResult = parseVerdict(result.trim());
+            inspectionResult.setTokenUsage(tokenUsage);
+            results.putIfAbsent(goodsCode.trim(), inspectionResult);
+        }
+        return results;
+    }
+
+    /**
+     * 응답의 토큰 사용량(usageMetadata)을 변환합니다.
+     * @param goodsCount 호출 1번으로 검수한 상품 수
+     * @return 사용량이 없으면 null
+     */
+    private TokenUsage toTokenUsage(GeminiResponse response, int goodsCount) {
+        if (response == null || response.getUsageMetadata() == null) {
+            return null;
+        }
+        GeminiResponse.UsageMetadata usage = response.getUsageMetadata();
+        int imageTokens = 0;
+        if (usage.getPromptTokensDetails() != null) {
+            imageTokens = usage.getPromptTokensDetails().stream()
+                    .filter(detail -> "IMAGE".equalsIgnoreCase(detail.getModality()))
+                    .mapToInt(GeminiResponse.ModalityTokenCount::getTokenCount)
+                    .sum();
+        }
+        int outputTokens = usage.getCandidatesTokenCount() + usage.getThoughtsTokenCount();
+        return new TokenUsage(usage.getPromptTokenCount(), imageTokens, outputTokens, usage.getTotalTokenCount()).divide(goodsCount);
+    }
+
+    /**
+     * 안전 정책 차단이나 빈 응답인지 확인합니다.
+     * @return 판정을 읽을 수 없는 응답이면 그에 해당하는 반려 결과, 정상 응답이면 null
+     */
+    private InspectionResult checkGeminiResponse(GeminiResponse response) {
     	// 0. 안전 필터 등에 의해 차단되었는지 우선 확인
         if (response != null && response.getPromptFeedback() != null && response.getPromptFeedback().getBlockReason() != null) {
             String blockReason = response.getPromptFeedback().getBlockReason();
@@ -198,11 +562,13 @@ public class GeminiInspectBatchServiceImpl extends AbstractInspectBatchService {
             
             return InspectionResult.reject(200, null, "AI 검수 서버로부터 유효한 응답을 받지 못했습니다.", geminiModelName);
         }
-        
-        // 2. 응답 텍스트 추출
-        String textResponse = response.getCandidates().get(0).getContent().getParts().get(0).getText().trim();
-        log.info("Gemini API 응답: {}", textResponse);
+        return null;
+    }
 
+    /**
+     * 판정 문자열("승인" 또는 "반려:금칙어:사유")을 검수 결과로 변환합니다.
+     */
+    private InspectionResult parseVerdict(String textResponse) {
         // 3. 응답 케이스에 따라 분기 처리
         if (textResponse.startsWith("승인")) {
             return InspectionResult.approve(geminiModelName);
@@ -234,15 +600,32 @@ public class GeminiInspectBatchServiceImpl extends AbstractInspectBatchService {
         }
     }
 
-    private String createPromptForCheckForbiddenWords(Goods goods, String forbiddenWords) {
-    	String goodsInfo = goods.getGoodsInfo();
-    	String cleanedGoodsInfo = "";
+    // 응답이 ```json ... ``` 로 감싸져 오는 경우 제거
+    private String stripCodeFence(String text) {
+        if (!text.startsWith("```")) {
+            return text;
+        }
+        int start = text.indexOf('\n');
+        int end = text.lastIndexOf("```");
+        return start >= 0 && end > start ? text.substring(start + 1, end).trim() : text;
+    }
+
+    // 검수 대상 상품 정보 (프롬프트와 분리하여 보내는 경우: 묶음 검수, 컨텍스트 캐시)
+    private String describeGoods(Goods goods) {
+        return String.format("상품명: %s%n모바일 상품명: %s%n기타정보: %s",
+                goods.getGoodsName(), goods.getMobileGoodsName(), cleanGoodsInfo(goods.getGoodsInfo()));
+    }
 
-    	if (goodsInfo != null && !goodsInfo.trim().isEmpty()) {
-    	    cleanedGoodsInfo = goodsInfo.replaceAll("(?s)<[^>]*>", "").trim();
-    	}
+    // HTML 태그를 제거한 기타정보
+    private String cleanGoodsInfo(String goodsInfo) {
+        if (goodsInfo == null || goodsInfo.trim().isEmpty()) {
+            return "";
+        }
+        return goodsInfo.replaceAll("(?s)<[^>]*>", "").trim();
+    }
 
-    	String goodsInfoLine = cleanedGoodsInfo.isEmpty() ? "" : cleanedGoodsInfo;
+    private String createPromptForCheckForbiddenWords(Goods goods, String forbiddenWords) {
+    	String goodsInfoLine = cleanGoodsInfo(goods.getGoodsInfo());
 
     	String prompt = String.format(this.promptTemplate,
     	        // 검수 대상 정보
@@ -0,0 +1,219 @@
+package com.tikitaka.api.batch.inspection;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.tikitaka.api.batch.goods.entity.Goods;
+import com.tikitaka.api.batch.inspection.dto.FileContent;
+import com.tikitaka.api.batch.inspection.dto.InspectionResult;
+import com.tikitaka.api.batch.inspection.dto.PackedGoods;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 텍스트만 있거나 이미지가 적은 상품 여러 건을 Gemini 호출 1번으로 검수하는 묶음 검수입니다. (gemini.packed.enabled-yn)
+ * 동시에 처리 중인 검수 요청 중 금칙어 목록이 같은 상품을 최대 max-goods건까지 모으고,
+ * 가득 차거나 첫 상품이 들어온 뒤 max-wait-ms가 지나면 호출합니다. 프롬프트와 금칙어 목록을 상품마다 반복해서 보내지 않으므로
+ * 호출 수와 입력 토큰이 함께 줄어듭니다.
+ * 응답에서 판정을 찾지 못한 상품이나 요청 전체가 안전 정책으로 차단된 경우, 묶음 호출 자체가 실패한 경우에는 해당 상품을 단건으로 다시 검수합니다.
+ * 단건 검수는 기본 검수 서비스(RoutingInspectBatchService)로 호출하므로 장애 전환(failover)과 헤지가 그대로 적용됩니다.
+ * (묶음 호출 자체는 Gemini로만 보내며 헤지하지 않습니다.)
+ * 묶은 상품 수와 단건 재검수 건수는 ai.packed.inspection.size, ai.packed.inspection (result=packed|fallback)로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class GeminiPackedInspectionService {
+
+    private final GeminiInspectBatchServiceImpl geminiInspectService;
+    private final InspectBatchService inspectService; // 단건 검수 (장애 전환/헤지 포함)
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int maxGoodsPerPack;
+    private final int maxImagesPerGoods;
+    private final int maxImagesPerPack;
+    private final long maxWaitMillis;
+
+    // 금칙어 목록별로 모으는 중인 묶음 (this로 동기화)
+    private final Map<String, PendingPack> pendingPacks = new HashMap<>();
+
+    public GeminiPackedInspectionService(GeminiInspectBatchServiceImpl geminiInspectService,
+                                         InspectBatchService inspectService,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${gemini.packed.enabled-yn:N}") String enabledYn,
+                                         @Value("${gemini.packed.max-goods:10}") int maxGoodsPerPack,
+                                         @Value("${gemini.packed.max-images-per-goods:1}") int maxImagesPerGoods,
+                                         @Value("${gemini.packed.max-images:10}") int maxImagesPerPack,
+                                         @Value("${gemini.packed.max-wait-ms:200}") long maxWaitMillis) {
+        this.geminiInspectService = geminiInspectService;
+        this.inspectService = inspectService;
+        this.meterRegistry = meterRegistry;
+        this.maxGoodsPerPack = Math.max(1, maxGoodsPerPack);
+        this.maxImagesPerGoods = Math.max(0, maxImagesPerGoods);
+        this.maxImagesPerPack = Math.max(this.maxImagesPerGoods, maxImagesPerPack);
+        this.maxWaitMillis = Math.max(0, maxWaitMillis);
+
+        // 묶음 검수는 Gemini로 호출하므로, 기본 검수 모델이 다르면 사용하지 않습니다. (결과의 검수 엔진이 섞이지 않도록)
+        boolean sameInspector = geminiInspectService.getInspectorId().equals(inspectService.getInspectorId());
+        this.enabled = "Y".equalsIgnoreCase(enabledYn) && sameInspector;
+        if ("Y".equalsIgnoreCase(enabledYn) && !sameInspector) {
+            log.warn("기본 검수 모델({})이 Gemini({})가 아니므로 묶음 검수를 사용하지 않습니다.",
+                    inspectService.getInspectorId(), geminiInspectService.getInspectorId());
+        } else if (enabled) {
+            log.info("Gemini 묶음 검수 사용 - 최대 상품 수: {}, 상품당 최대 이미지: {}, 최대 대기: {}ms",
+                    this.maxGoodsPerPack, this.maxImagesPerGoods, this.maxWaitMillis);
+        }
+    }
+
+    /**
+     * 묶음 검수 대상인지 확인합니다. (상품코드가 있고 이미지가 max-images-per-goods장 이하인 상품)
+     */
+    public boolean isEligible(Goods goods, List<FileContent> fileContents) {
+        return enabled
+                && goods.getGoodsCode() != null && !goods.getGoodsCode().isBlank()
+                && countImages(fileContents) <= maxImagesPerGoods;
+    }
+
+    /**
+     * 상품을 묶음에 추가하고, 묶음 검수가 끝나면 이 상품의 결과를 반환합니다.
+     */
+    public Mono<InspectionResult> inspect(Goods goods, List<FileContent> fileContents, String forbiddenWords) {
+        return Mono.defer(() -> {
+            PackedItem item = new PackedItem(new PackedGoods(goods, fileContents), Sinks.one());
+            for (PendingPack pack : add(item, forbiddenWords)) {
+                send(pack);
+            }
+            return item.result().asMono();
+        });
+    }
+
+    /**
+     * @return 가득 차서 바로 호출할 묶음
+     */
+    private synchronized List<PendingPack> add(PackedItem item, String forbiddenWords) {
+        List<PendingPack> readyPacks = new ArrayList<>(2);
+        PendingPack pack = pendingPacks.get(forbiddenWords);
+        if (pack != null && !pack.canAccept(item)) {
+            // 같은 상품코드가 이미 있거나 이미지 한도를 넘으면 모으던 묶음을 먼저 보냅니다.
+            pendingPacks.remove(forbiddenWords);
+            readyPacks.add(pack);
+            pack = null;
+        }
+        if (pack == null) {
+            PendingPack newPack = new PendingPack(forbiddenWords);
+            pendingPacks.put(forbiddenWords, newPack);
+            Schedulers.parallel().schedule(() -> sendIfPending(newPack), maxWaitMillis, TimeUnit.MILLISECONDS);
+            pack = newPack;
+        }
+        pack.add(item);
+        if (pack.items.size() >= maxGoodsPerPack) {
+            pendingPacks.remove(forbiddenWords);
+            readyPacks.add(pack);
+        }
+        return readyPacks;
+    }
+
+    // 대기 시간이 지났는데 아직 보내지 않은 묶음이면 보냅니다.
+    private void sendIfPending(PendingPack pack) {
+        synchronized (this) {
+            if (pendingPacks.get(pack.forbiddenWords) != pack) {
+                return;
+            }
+            pendingPacks.remove(pack.forbiddenWords);
+        }
+        send(pack);
+    }
+
+    private void send(PendingPack pack) {
+        List<PackedItem> items = pack.items;
+        meterRegistry.summary("ai.packed.inspection.size").record(items.size());
+        if (items.size() == 1) {
+            // 함께 묶을 상품이 없으면 단건 프롬프트로 검수합니다.
+            inspectSingle(items.get(0), pack.forbiddenWords);
+            return;
+        }
+
+        List<PackedGoods> goods = items.stream().map(PackedItem::goods).toList();
+        geminiInspectService.performPackedInspectionReactive(goods, pack.forbiddenWords).subscribe(
+                results -> {
+                    for (PackedItem item : items) {
+                        InspectionResult result = results.get(item.goods().getGoods().getGoodsCode());
+                        if (result == null) {
+                            log.debug("상품코드 {}의 판정이 묶음 검수 응답에 없어 단건으로 다시 검수합니다.", item.goods().getGoods().getGoodsCode());
+                            count("fallback");
+                            inspectSingle(item, pack.forbiddenWords);
+                        } else {
+                            count("packed");
+                            item.result().tryEmitValue(result);
+                        }
+                    }
+                },
+                // 호출 자체가 실패하면 상품마다 단건으로 다시 검수합니다.
+                // (Gemini 장애면 보조 제공자로 전환되고, 그 외 오류는 단건 호출의 오류로 상품별 재시도 규칙을 따릅니다.)
+                e -> {
+                    log.debug("묶음 검수 호출이 실패하여 {}건을 단건으로 다시 검수합니다. 원인: {}", items.size(), e.getMessage());
+                    for (PackedItem item : items) {
+                        count("fallback");
+                        inspectSingle(item, pack.forbiddenWords);
+                    }
+                });
+    }
+
+    private void inspectSingle(PackedItem item, String forbiddenWords) {
+        PackedGoods goods = item.goods();
+        inspectService.performAiInspectionReactive(goods.getGoods(), goods.getFileContents(), forbiddenWords).subscribe(
+                result -> item.result().tryEmitValue(result),
+                e -> item.result().tryEmitError(e));
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("ai.packed.inspection", "result", result).increment();
+    }
+
+    private static int countImages(List<FileContent> fileContents) {
+        if (fileContents == null) {
+            return 0;
+        }
+        return (int) fileContents.stream()
+                .filter(file -> file.getContent() != null && file.getContent().length > 0)
+                .count();
+    }
+
+    private record PackedItem(PackedGoods goods, Sinks.One<InspectionResult> result) {
+    }
+
+    // 같은 금칙어 목록으로 모으는 중인 묶음
+    private final class PendingPack {
+
+        private final String forbiddenWords;
+        private final List<PackedItem> items = new ArrayList<>();
+        private final Set<String> goodsCodes = new HashSet<>();
+        private int imageCount;
+
+        private PendingPack(String forbiddenWords) {
+            this.forbiddenWords = forbiddenWords;
+        }
+
+        private boolean canAccept(PackedItem item) {
+            return !goodsCodes.contains(item.goods().getGoods().getGoodsCode())
+                    && imageCount + countImages(item.goods().getFileContents()) <= maxImagesPerPack;
+        }
+
+        private void add(PackedItem item) {
+            items.add(item);
+            goodsCodes.add(item.goods().getGoods().getGoodsCode());
+            imageCount += countImages(item.goods().getFileContents());
+        }
+    }
+}
@@ -9,6 +9,9 @@ import com.tikitaka.api.batch.goods.entity.Goods;
 import com.tikitaka.api.batch.inspection.dto.FileContent;
 import com.tikitaka.api.batch.inspection.dto.InspectionResult;
 
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
 public interface InspectBatchService {
     
     /**
@@ -27,5 +30,23 @@ public interface InspectBatchService {
      * @return 검수 결과
      */
     public InspectionResult performAiInspection(Goods goods, List<FileContent> fileContents, String forbiddenWords) throws Exception;
+
+    /**
+     * 검수 결과에 기록되는 검수 엔진 식별자(모델명)를 반환합니다.
+     * 검수 결과 캐시의 키에 포함되므로, 모델이 바뀌면 이전 결과를 재사용하지 않습니다.
+     */
+    public String getInspectorId();
+
+    /**
+     * AI 검수를 논블로킹으로 수행합니다.
+     * 기본 구현은 동기 메소드를 boundedElastic 스케줄러에서 실행하며, 구현체는 WebClient 호출을 block 없이 연결하도록 재정의합니다.
+     * @param goods 검수 대상 상품
+     * @param fileContents 검수용 기존 이미지 파일 정보
+     * @return 검수 결과
+     */
+    default Mono<InspectionResult> performAiInspectionReactive(Goods goods, List<FileContent> fileContents, String forbiddenWords) {
+        return Mono.fromCallable(() -> performAiInspection(goods, fileContents, forbiddenWords))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
     
 }
\ No newline at end of file
@@ -0,0 +1,302 @@
+package com.tikitaka.api.batch.inspection;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.tikitaka.api.batch.goods.entity.Goods;
+import com.tikitaka.api.batch.inspection.dto.BulkInspectionResult;
+import com.tikitaka.api.batch.inspection.dto.BulkJobStatus;
+import com.tikitaka.api.batch.inspection.dto.FileContent;
+import com.tikitaka.api.batch.inspection.dto.InspectionResult;
+import com.tikitaka.api.global.config.HttpClientConfig;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+
+/**
+ * OpenAI Batch API로 검수 요청을 일괄 처리합니다.
+ * 1. 요청마다 동기 호출과 같은 chat completions 본문을 만들어 {"custom_id", "method", "url", "body"} 한 줄씩 JSONL 임시 파일에 기록
+ * 2. Files API(purpose=batch)로 업로드한 뒤 /v1/batches 작업 생성
+ * 3. 작업 상태를 조회하고, 완료되면 결과/오류 파일을 내려받아 custom_id별 검수 결과로 변환
+ * Batch API 호출은 동기 호출의 RPM/TPM 한도와 별도로 집계되므로 ai.rate-limit.openai.* 제한을 거치지 않습니다.
+ */
+@Slf4j
+@Service
+@Qualifier("openAiBulkInspectService")
+public class OpenAiBulkInspectBatchServiceImpl implements BulkInspectBatchService {
+
+    private static final String CHAT_COMPLETIONS_ENDPOINT = "/v1/chat/completions";
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    // 요청 줄을 기록한 뒤에도 임시 파일을 계속 쓸 수 있도록 출력 대상을 닫지 않는 writer
+    private final ObjectWriter lineWriter;
+    private final ChatGPTInspectBatchServiceImpl chatGptInspectService;
+    private final String openaiApiKey;
+    private final String openaiApiUrl;
+    private final String completionWindow;
+
+    public OpenAiBulkInspectBatchServiceImpl(@Qualifier(HttpClientConfig.OPENAI_WEB_CLIENT_BUILDER) WebClient.Builder webClientBuilder,
+                                             ObjectMapper objectMapper,
+                                             ChatGPTInspectBatchServiceImpl chatGptInspectService,
+                                             @Value("${openai.api.key}") String openaiApiKey,
+                                             @Value("${openai.api.url}") String openaiApiUrl,
+                                             @Value("${openai.batch.completion-window:24h}") String completionWindow) {
+        this.webClient = webClientBuilder.build();
+        this.objectMapper = objectMapper;
+        this.lineWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.chatGptInspectService = chatGptInspectService;
+        this.openaiApiKey = openaiApiKey;
+        this.openaiApiUrl = openaiApiUrl;
+        this.completionWindow = completionWindow;
+    }
+
+    @Override
+    public String getProvider() {
+        return "openai";
+    }
+
+    @Override
+    public InspectionResult performAiInspection(Goods goods, MultipartFile[] files, String forbiddenWords) throws IOException {
+        return chatGptInspectService.performAiInspection(goods, files, forbiddenWords);
+    }
+
+    @Override
+    public InspectionResult performAiInspection(Goods goods, List<FileContent> fileContents, String forbiddenWords) {
+        return chatGptInspectService.performAiInspection(goods, fileContents, forbiddenWords);
+    }
+
+    @Override
+    public String getInspectorId() {
+        return chatGptInspectService.getInspectorId();
+    }
+
+    @Override
+    public BulkSubmission newSubmission(String displayName) throws IOException {
+        return new OpenAiBulkSubmission(displayName);
+    }
+
+    @Override
+    public BulkJobStatus getJobStatus(String jobName) {
+        JsonNode batch = webClient.get()
+                .uri(openaiApiUrl + "/v1/batches/{batchId}", jobName)
+                .header("Authorization", "Bearer " + openaiApiKey)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block();
+        if (batch == null) {
+            return BulkJobStatus.running(jobName);
+        }
+
+        // validating, in_progress, finalizing, cancelling은 진행 중으로 봅니다.
+        String status = batch.path("status").asText("");
+        switch (status) {
+            case "completed":
+                String outputFileId = textOrNull(batch.path("output_file_id"));
+                String errorFileId = textOrNull(batch.path("error_file_id"));
+                if (outputFileId == null && errorFileId == null) {
+                    return BulkJobStatus.failed(jobName, "결과 파일 정보가 없습니다.");
+                }
+                return BulkJobStatus.succeeded(jobName, outputFileId, errorFileId);
+            case "failed":
+            case "expired":
+            case "cancelled":
+                JsonNode errors = batch.path("errors").path("data");
+                String message = errors.isArray() && errors.size() > 0
+                        ? errors.get(0).path("message").asText(status)
+                        : status;
+                return BulkJobStatus.failed(jobName, message);
+            default:
+                return BulkJobStatus.running(jobName);
+        }
+    }
+
+    @Override
+    public void cancelJob(String jobName) {
+        webClient.post()
+                .uri(openaiApiUrl + "/v1/batches/{batchId}/cancel", jobName)
+                .header("Authorization", "Bearer " + openaiApiKey)
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+    }
+
+    @Override
+    public List<BulkInspectionResult> fetchResults(BulkJobStatus status) throws IOException {
+        List<BulkInspectionResult> results = new ArrayList<>();
+        // 성공한 요청은 결과 파일에, 실패한 요청은 오류 파일에 기록됩니다.
+        if (status.getOutputRef() != null) {
+            readResultFile(status.getOutputRef(), results);
+        }
+        if (status.getErrorRef() != null) {
+            readResultFile(status.getErrorRef(), results);
+        }
+        log.info("OpenAI 일괄 처리 결과 {}건을 읽었습니다. (작업: {})", results.size(), status.getJobName());
+        return results;
+    }
+
+    private void readResultFile(String fileId, List<BulkInspectionResult> results) throws IOException {
+        Path resultFile = Files.createTempFile("openai-batch-result-", ".jsonl");
+        try {
+            // 결과 파일은 수십 MB 이상일 수 있으므로 메모리에 올리지 않고 임시 파일로 바로 내려받습니다.
+            Flux<DataBuffer> body = webClient.get()
+                    .uri(openaiApiUrl + "/v1/files/{fileId}/content", fileId)
+                    .header("Authorization", "Bearer " + openaiApiKey)
+                    .retrieve()
+                    .bodyToFlux(DataBuffer.class);
+            DataBufferUtils.write(body, resultFile).block();
+
+            try (BufferedReader reader = Files.newBufferedReader(resultFile, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    results.add(toBulkInspectionResult(objectMapper.readTree(line)));
+                }
+            }
+        } finally {
+            Files.deleteIfExists(resultFile);
+        }
+    }
+
+    /**
+     * 결과 한 줄: {"custom_id", "response": {"status_code", "body"}, "error"}
+     */
+    private BulkInspectionResult toBulkInspectionResult(JsonNode line) {
+        String customId = line.path("custom_id").asText(null);
+        JsonNode error = line.path("error");
+        if (!error.isMissingNode() && !error.isNull()) {
+            return BulkInspectionResult.failure(customId, "OpenAI 일괄 처리 오류: " + error.path("message").asText(error.toString()));
+        }
+        JsonNode response = line.path("response");
+        int statusCode = response.path("status_code").asInt(0);
+        if (statusCode != 200) {
+            String message = response.path("body").path("error").path("message").asText("HTTP " + statusCode);
+            return BulkInspectionResult.failure(customId, "OpenAI 일괄 처리 오류: " + message);
+        }
+        return BulkInspectionResult.success(customId, chatGptInspectService.toInspectionResult(response.path("body")));
+    }
+
+    private String textOrNull(JsonNode node) {
+        return node.isTextual() && !node.asText().isBlank() ? node.asText() : null;
+    }
+
+    /**
+     * JSONL 임시 파일에 요청을 기록하고, submit 시 업로드 후 작업을 생성합니다.
+     */
+    private class OpenAiBulkSubmission implements BulkSubmission {
+
+        private final String displayName;
+        private final Path inputFile;
+        private final BufferedWriter writer;
+        private int size;
+
+        OpenAiBulkSubmission(String displayName) throws IOException {
+            this.displayName = displayName;
+            this.inputFile = Files.createTempFile("openai-batch-", ".jsonl");
+            this.writer = Files.newBufferedWriter(inputFile, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void add(String key, Goods goods, List<FileContent> fileContents, String forbiddenWords) throws IOException {
+            Map<String, Object> line = Map.of(
+                    "custom_id", key,
+                    "method", "POST",
+                    "url", CHAT_COMPLETIONS_ENDPOINT,
+                    "body", chatGptInspectService.buildChatGptRequest(goods, fileContents, forbiddenWords));
+            // 이미지 base64를 문자열로 만들지 않고 임시 파일에 바로 기록
+            lineWriter.writeValue(writer, line);
+            writer.newLine();
+            size++;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public String submit() throws IOException {
+            writer.close();
+            String fileId = uploadInputFile();
+            String batchId = createBatch(fileId);
+            log.info("OpenAI 일괄 처리 작업 생성 완료 - 작업: {}, 요청: {}건, 입력 파일: {}", batchId, size, fileId);
+            return batchId;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                writer.close();
+            } finally {
+                Files.deleteIfExists(inputFile);
+            }
+        }
+
+        private String uploadInputFile() throws IOException {
+            MultipartBodyBuilder multipart = new MultipartBodyBuilder();
+            multipart.part("purpose", "batch");
+            multipart.part("file", new FileSystemResource(inputFile))
+                    .filename(displayName + ".jsonl")
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM);
+
+            JsonNode uploaded = webClient.post()
+                    .uri(openaiApiUrl + "/v1/files")
+                    .header("Authorization", "Bearer " + openaiApiKey)
+                    .contentType(MediaType.MULTIPART_FORM_DATA)
+                    .body(BodyInserters.fromMultipartData(multipart.build()))
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .block();
+            String fileId = uploaded != null ? textOrNull(uploaded.path("id")) : null;
+            if (fileId == null) {
+                throw new IOException("OpenAI 파일 업로드 응답에 파일 ID가 없습니다: " + uploaded);
+            }
+            return fileId;
+        }
+
+        private String createBatch(String fileId) throws IOException {
+            Map<String, Object> requestBody = Map.of(
+                    "input_file_id", fileId,
+                    "endpoint", CHAT_COMPLETIONS_ENDPOINT,
+                    "completion_window", completionWindow,
+                    "metadata", Map.of("description", displayName));
+            JsonNode created = webClient.post()
+                    .uri(openaiApiUrl + "/v1/batches")
+                    .header("Authorization", "Bearer " + openaiApiKey)
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .block();
+            String batchId = created != null ? textOrNull(created.path("id")) : null;
+            if (batchId == null) {
+                throw new IOException("OpenAI 일괄 처리 작업 생성 응답에 작업 ID가 없습니다: " + created);
+            }
+            return batchId;
+        }
+    }
+}
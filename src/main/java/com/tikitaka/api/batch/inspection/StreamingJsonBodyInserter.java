@@ -0,0 +1,48 @@
+package com.tikitaka.api.batch.inspection;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Executor;
+
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.web.reactive.function.BodyInserter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 요청 객체를 JSON으로 직렬화하면서 곧바로 전송 버퍼(DataBuffer)에 기록하는 BodyInserter입니다.
+ * bodyValue는 JSON 전체를 한 번 버퍼에 만든 뒤 전송하므로, 이미지가 많은 요청은 원본 이미지 + base64 문자열 + JSON 버퍼가
+ * 동시에 힙에 올라갑니다. 이 Inserter는 byte[] 필드를 Jackson이 청크 단위로 base64 인코딩하여 전송 버퍼에 바로 쓰므로
+ * 요청 1건이 사용하는 추가 메모리가 청크 크기 수준으로 줄어듭니다. (Content-Length 대신 chunked 전송)
+ */
+public final class StreamingJsonBodyInserter {
+
+    // 전송 버퍼 1개의 크기
+    private static final int CHUNK_SIZE = 16 * 1024;
+
+    // 직렬화 스레드는 전송이 따라오지 못하면 대기하므로 이벤트 루프가 아닌 별도 스레드에서 실행합니다.
+    private static final Executor SERIALIZER_EXECUTOR = task -> Schedulers.boundedElastic().schedule(task);
+
+    private StreamingJsonBodyInserter() {
+    }
+
+    public static BodyInserter<Object, ReactiveHttpOutputMessage> of(ObjectMapper objectMapper, Object body) {
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return (message, context) -> {
+            message.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return message.writeWith(DataBufferUtils.outputStreamPublisher(outputStream -> {
+                try {
+                    writer.writeValue(outputStream, body);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, message.bufferFactory(), SERIALIZER_EXECUTOR, CHUNK_SIZE));
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.tikitaka.api.batch.inspection.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 일괄 처리(Batch) 작업 결과 파일의 요청 1건에 대한 검수 결과입니다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BulkInspectionResult {
+
+    private final String key;
+    private final InspectionResult result;    // 요청 단위 오류인 경우 null
+    private final String errorMessage;
+
+    public static BulkInspectionResult success(String key, InspectionResult result) {
+        return new BulkInspectionResult(key, result, null);
+    }
+
+    public static BulkInspectionResult failure(String key, String errorMessage) {
+        return new BulkInspectionResult(key, null, errorMessage);
+    }
+}
@@ -0,0 +1,39 @@
+package com.tikitaka.api.batch.inspection.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * AI 제공자의 일괄 처리(Batch) 작업 상태입니다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BulkJobStatus {
+
+    public enum State {
+        RUNNING,    // 대기 또는 처리 중
+        SUCCEEDED,  // 완료 (결과 파일 조회 가능)
+        FAILED      // 실패, 취소, 만료
+    }
+
+    private final String jobName;
+    private final State state;
+    private final String outputRef;   // SUCCEEDED: 결과 파일 식별자
+    private final String errorRef;    // SUCCEEDED: 요청 단위 오류가 따로 기록된 파일 식별자 (없으면 null)
+    private final String message;     // FAILED: 실패 사유
+
+    public static BulkJobStatus running(String jobName) {
+        return new BulkJobStatus(jobName, State.RUNNING, null, null, null);
+    }
+
+    public static BulkJobStatus succeeded(String jobName, String outputRef, String errorRef) {
+        return new BulkJobStatus(jobName, State.SUCCEEDED, outputRef, errorRef, null);
+    }
+
+    public static BulkJobStatus failed(String jobName, String message) {
+        return new BulkJobStatus(jobName, State.FAILED, null, null, message);
+    }
+}
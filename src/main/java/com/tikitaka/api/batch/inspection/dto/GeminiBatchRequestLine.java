@@ -0,0 +1,12 @@
+package com.tikitaka.api.batch.inspection.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// --- Gemini Batch Prediction 입력 파일(JSONL)의 한 줄 ---
+@Data
+@AllArgsConstructor
+public class GeminiBatchRequestLine {
+    private String key;             // 결과를 요청과 다시 연결하기 위한 키 (goods_batch_request.request_id)
+    private GeminiRequest request;
+}
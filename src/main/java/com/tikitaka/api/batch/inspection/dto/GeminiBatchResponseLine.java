@@ -0,0 +1,25 @@
+package com.tikitaka.api.batch.inspection.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// --- Gemini Batch Prediction 결과 파일(JSONL)의 한 줄 ---
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GeminiBatchResponseLine {
+    private String key;
+    private GeminiResponse response;
+    private Status error;   // 요청 단위 오류 (response 대신 전달됨)
+
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Status {
+        private Integer code;
+        private String message;
+        private String status;
+    }
+}
@@ -16,6 +16,15 @@ public class GeminiRequest {
     private List<Content> contents;
     @JsonProperty("safetySettings")
     private List<SafetySetting> safetySettings;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private GenerationConfig generationConfig;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String cachedContent; // 컨텍스트 캐시 이름 (cachedContents/...): 캐시된 프롬프트 뒤에 contents가 이어짐
+
+    public GeminiRequest(List<Content> contents, List<SafetySetting> safetySettings) {
+        this.contents = contents;
+        this.safetySettings = safetySettings;
+    }
 
     @Data
     @AllArgsConstructor
@@ -28,6 +37,7 @@ public class GeminiRequest {
     public static class Part {
         private String text;
         private InlineData inlineData;
+        private FileData fileData;
 
         public Part(String text) {
             this.text = text;
@@ -36,15 +46,35 @@ public class GeminiRequest {
         public Part(InlineData inlineData) {
             this.inlineData = inlineData;
         }
+
+        public Part(FileData fileData) {
+            this.fileData = fileData;
+        }
     }
 
     @Data
     @AllArgsConstructor
     public static class InlineData {
         private String mimeType;
-        private String data; // Base64 encoded string
+        private byte[] data; // 직렬화 시 Jackson이 base64로 인코딩하여 기록 (별도의 base64 문자열을 만들지 않음)
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class FileData {
+        private String mimeType;
+        private String fileUri; // Files API에 업로드한 파일 URI
     }
     
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class GenerationConfig {
+        private String responseMimeType; // application/json: 응답을 JSON으로만 받음 (묶음 검수)
+        private Integer maxOutputTokens; // 응답 최대 토큰 수 (스트리밍 검수)
+    }
+
     @Data
     @AllArgsConstructor
     @NoArgsConstructor
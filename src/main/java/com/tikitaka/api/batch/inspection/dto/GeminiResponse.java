@@ -10,6 +10,7 @@ import java.util.List;
 public class GeminiResponse {
     private List<Candidate> candidates;
     private PromptFeedback promptFeedback; // [추가] 차단 사유 수신용
+    private UsageMetadata usageMetadata;   // 토큰 사용량
 
     @Data
     @NoArgsConstructor
@@ -35,4 +36,21 @@ public class GeminiResponse {
     public static class Part {
         private String text;
     }
+
+    @Data
+    @NoArgsConstructor
+    public static class UsageMetadata {
+        private int promptTokenCount;
+        private int candidatesTokenCount;
+        private int thoughtsTokenCount;
+        private int totalTokenCount;
+        private List<ModalityTokenCount> promptTokensDetails; // 입력 토큰의 유형별(TEXT, IMAGE 등) 내역
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class ModalityTokenCount {
+        private String modality;
+        private int tokenCount;
+    }
 }
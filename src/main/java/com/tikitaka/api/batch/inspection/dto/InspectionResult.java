@@ -1,12 +1,11 @@
 package com.tikitaka.api.batch.inspection.dto;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 @Getter
 @NoArgsConstructor
-@AllArgsConstructor
 public class InspectionResult {
 
     private boolean approved; // 검수 통과 여부
@@ -16,6 +15,17 @@ public class InspectionResult {
     
     private String inspectorId;	// 검수엔진 (20자리, gpt-4o, gemini-2.0-flash) 
 
+    @Setter
+    private TokenUsage tokenUsage;	// 이 결과를 얻는 데 사용한 토큰 (캐시된 결과 등 AI 호출이 없었으면 null)
+
+    public InspectionResult(boolean approved, int errorCode, String reason, String forbiddenWord, String inspectorId) {
+        this.approved = approved;
+        this.errorCode = errorCode;
+        this.reason = reason;
+        this.forbiddenWord = forbiddenWord;
+        this.inspectorId = inspectorId;
+    }
+
 //    public static InspectionResult approve(String inspectorId) {
 //        return new InspectionResult(true, "승인되었습니다.", null, inspectorId);
 //    }
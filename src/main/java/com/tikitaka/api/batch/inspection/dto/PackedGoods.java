@@ -0,0 +1,18 @@
+package com.tikitaka.api.batch.inspection.dto;
+
+import java.util.List;
+
+import com.tikitaka.api.batch.goods.entity.Goods;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 묶음 검수(Gemini 호출 1번에 여러 상품)에 포함되는 상품 1건입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PackedGoods {
+    private Goods goods;
+    private List<FileContent> fileContents;
+}
@@ -0,0 +1,29 @@
+package com.tikitaka.api.batch.inspection.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * AI 호출 1건의 토큰 사용량입니다. (Gemini usageMetadata, ChatGPT usage)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class TokenUsage {
+
+    private final int promptTokens;   // 입력 토큰 (이미지 포함)
+    private final int imageTokens;    // 입력 토큰 중 이미지 (제공자가 구분하지 않으면 0)
+    private final int outputTokens;   // 출력 토큰 (사고(thinking) 토큰 포함)
+    private final int totalTokens;
+
+    /**
+     * 여러 상품을 호출 1번으로 검수한 경우 상품 1건의 몫을 계산합니다. (균등 분배)
+     */
+    public TokenUsage divide(int count) {
+        if (count <= 1) {
+            return this;
+        }
+        return new TokenUsage(promptTokens / count, imageTokens / count, outputTokens / count, totalTokens / count);
+    }
+}
@@ -0,0 +1,214 @@
+package com.tikitaka.api.batch.inspection.ratelimit;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * AI 제공자 하나에 대한 동시 호출 수를 AIMD(가산 증가 / 승산 감소) 방식으로 조절합니다.
+ * - 응답이 정상이고 지연이 기준 대비 안정적이면 한도를 조금씩(호출 limit건마다 +1) 늘립니다.
+ *   단, 동시 호출 수가 한도에 가까울 때만 늘립니다. (한도를 다 쓰지 않는 동안 검증되지 않은 한도가 최대치까지 올라가는 것을 방지)
+ * - 429/503, 시간 초과, 기준 대비 지연 급증이 발생하면 한도를 backoffRatio만큼 크게 줄입니다.
+ * 동시에 여러 건이 실패해 한도가 연쇄적으로 줄어드는 것을 막기 위해 감소는 cooldown 간격에 한 번만 적용합니다.
+ * 지연은 첨부 이미지 수가 다른 호출끼리 비교할 수 있도록 (이미지 수 + 1)로 나눈 값으로 판단합니다.
+ * 논블로킹 호출(acquireReactive)은 대기열에 등록되어, 권한이 반납될 때 등록 순서대로 권한을 받습니다.
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    public enum Outcome {
+        SUCCESS,  // 정상 응답
+        DROPPED,  // 429/503, 시간 초과 등 제공자 과부하 신호
+        IGNORED   // 요청 오류 등 한도 조절과 무관한 실패
+    }
+
+    // 호출이 끝날 때 동시 호출 수가 한도의 이 비율 이상이어야 한도를 늘립니다.
+    private static final double SATURATION_RATIO = 0.9;
+
+    @Getter
+    private final String provider;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final long cooldownNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitAvailable = lock.newCondition();
+    // acquireReactive로 권한을 기다리는 구독자 (lock 안에서만 접근)
+    private final Deque<MonoSink<Long>> reactiveWaiters = new ArrayDeque<>();
+
+    private double limit;
+    private int inFlight;
+    private double baselineLatencyNanos; // 정상 응답의 (이미지 수 + 1)당 지연의 지수 이동 평균
+    private long lastDecreaseAt;
+
+    public AdaptiveConcurrencyLimiter(String provider, int initialLimit, int minLimit, int maxLimit,
+                                      double backoffRatio, double latencyTolerance, long cooldownMillis) {
+        this.provider = provider;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.cooldownNanos = TimeUnit.MILLISECONDS.toNanos(cooldownMillis);
+    }
+
+    /**
+     * 동시 호출 한도에 여유가 생길 때까지 대기한 뒤 호출 권한을 얻습니다.
+     * @return 호출 시작 시각(ns). 호출이 끝나면 release에 전달합니다.
+     */
+    public long acquire() {
+        lock.lock();
+        try {
+            while (inFlight >= (int) limit) {
+                permitAvailable.await();
+            }
+            inFlight++;
+            return System.nanoTime();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("AI 동시 호출 한도 대기 중 인터럽트가 발생했습니다.", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * acquire의 논블로킹 버전입니다. 한도가 가득 차면 스레드를 점유하지 않고 대기열에 등록되며,
+     * release로 여유가 생기면 권한을 받아 완료됩니다. 대기 중 구독이 취소되면 대기열에서 빠집니다.
+     * @return 호출 시작 시각(ns)을 발행하는 Mono. 호출이 끝나면 release에 전달합니다.
+     */
+    public Mono<Long> acquireReactive() {
+        return Mono.create(sink -> {
+            boolean granted = false;
+            lock.lock();
+            try {
+                if (reactiveWaiters.isEmpty() && inFlight < (int) limit) {
+                    inFlight++;
+                    granted = true;
+                } else {
+                    reactiveWaiters.addLast(sink);
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (granted) {
+                sink.success(System.nanoTime());
+            } else {
+                sink.onCancel(() -> cancelWaiting(sink));
+            }
+        });
+    }
+
+    /**
+     * 대기 중 취소된 구독자를 대기열에서 제거합니다.
+     * 이미 권한을 넘긴 뒤(발행 전) 취소되었다면 권한이 전달되지 않으므로 반납합니다.
+     */
+    private void cancelWaiting(MonoSink<Long> sink) {
+        List<MonoSink<Long>> granted;
+        lock.lock();
+        try {
+            if (reactiveWaiters.remove(sink)) {
+                return;
+            }
+            inFlight--;
+            granted = grantWaiters();
+            permitAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        emit(granted);
+    }
+
+    /**
+     * 한도에 여유가 있는 만큼 대기열의 구독자에게 권한을 넘깁니다. (lock 안에서 호출)
+     * @return 권한을 넘긴 구독자. lock 밖에서 emit으로 발행합니다.
+     */
+    private List<MonoSink<Long>> grantWaiters() {
+        List<MonoSink<Long>> granted = new ArrayList<>();
+        while (!reactiveWaiters.isEmpty() && inFlight < (int) limit) {
+            granted.add(reactiveWaiters.pollFirst());
+            inFlight++;
+        }
+        return granted;
+    }
+
+    // 구독자의 후속 처리가 lock을 잡은 채 실행되지 않도록 lock 밖에서 발행합니다.
+    private void emit(List<MonoSink<Long>> granted) {
+        for (MonoSink<Long> sink : granted) {
+            sink.success(System.nanoTime());
+        }
+    }
+
+    /**
+     * 호출 결과를 반영하여 한도를 조절하고 권한을 반납합니다.
+     * @param startedAt acquire가 반환한 호출 시작 시각(ns)
+     * @param outcome 호출 결과
+     * @param imageCount 호출에 첨부한 이미지 수
+     */
+    public void release(long startedAt, Outcome outcome, int imageCount) {
+        long now = System.nanoTime();
+        double latency = (double) (now - startedAt) / (Math.max(0, imageCount) + 1);
+        List<MonoSink<Long>> granted;
+        lock.lock();
+        try {
+            boolean saturated = inFlight >= limit * SATURATION_RATIO;
+            inFlight--;
+            if (outcome == Outcome.DROPPED) {
+                decrease(now, "과부하 응답");
+            } else if (outcome == Outcome.SUCCESS) {
+                if (baselineLatencyNanos > 0 && latency > baselineLatencyNanos * latencyTolerance) {
+                    decrease(now, "지연 급증");
+                } else if (saturated && limit < maxLimit) {
+                    // 한도만큼 성공하면 +1 (가산 증가)
+                    limit = Math.min(maxLimit, limit + 1d / limit);
+                }
+                // 기준 지연은 천천히 따라가도록 지수 이동 평균으로 갱신
+                baselineLatencyNanos = baselineLatencyNanos == 0 ? latency : baselineLatencyNanos * 0.95 + latency * 0.05;
+            }
+            granted = grantWaiters();
+            permitAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        emit(granted);
+    }
+
+    private void decrease(long now, String reason) {
+        if (now - lastDecreaseAt < cooldownNanos) {
+            return;
+        }
+        lastDecreaseAt = now;
+        double previous = limit;
+        limit = Math.max(minLimit, limit * backoffRatio);
+        log.warn("[{}] AI 동시 호출 한도 감소 ({}): {} -> {}", provider, reason, (int) previous, (int) limit);
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.tikitaka.api.batch.inspection.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 제공자별 적응형 동시 호출 제한기를 생성하고 보관합니다.
+ * 설정: ai.concurrency.{provider}.initial-limit / min-limit / max-limit
+ * 현재 한도와 진행 중인 호출 수는 ai.concurrency.limit / ai.concurrency.in-flight (provider 태그)로 노출됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdaptiveConcurrencyLimiterRegistry {
+
+    // Y: 지연/과부하 응답에 따라 동시 호출 한도를 자동 조절, N: 제한하지 않음
+    @Value("${ai.concurrency.adaptive-yn:Y}")
+    private String adaptiveYn;
+
+    // 과부하 신호 시 한도에 곱하는 비율
+    @Value("${ai.concurrency.backoff-ratio:0.5}")
+    private double backoffRatio;
+
+    // 기준 지연의 몇 배를 넘으면 지연 급증으로 판단할지
+    @Value("${ai.concurrency.latency-tolerance:2.0}")
+    private double latencyTolerance;
+
+    // 한도 감소 최소 간격(ms)
+    @Value("${ai.concurrency.decrease-cooldown-ms:1000}")
+    private long decreaseCooldownMillis;
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * @param provider AI 제공자 (gemini, openai)
+     * @return 해당 제공자의 동시 호출 제한기, 비활성화된 경우 null
+     */
+    public AdaptiveConcurrencyLimiter limiterFor(String provider) {
+        if (!"Y".equalsIgnoreCase(adaptiveYn)) {
+            return null;
+        }
+        return limiters.computeIfAbsent(provider, this::createLimiter);
+    }
+
+    private AdaptiveConcurrencyLimiter createLimiter(String provider) {
+        String prefix = "ai.concurrency." + provider + ".";
+        int initialLimit = environment.getProperty(prefix + "initial-limit", Integer.class, 10);
+        int minLimit = environment.getProperty(prefix + "min-limit", Integer.class, 1);
+        int maxLimit = environment.getProperty(prefix + "max-limit", Integer.class, 200);
+
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(provider, initialLimit, minLimit, maxLimit,
+                backoffRatio, latencyTolerance, decreaseCooldownMillis);
+        Gauge.builder("ai.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("AI 제공자별 현재 동시 호출 한도")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        Gauge.builder("ai.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("AI 제공자별 진행 중인 호출 수")
+                .tag("provider", provider)
+                .register(meterRegistry);
+
+        log.info("[{}] AI 동시 호출 한도 자동 조절 - 초기: {}, 최소: {}, 최대: {}", provider, initialLimit, minLimit, maxLimit);
+        return limiter;
+    }
+}
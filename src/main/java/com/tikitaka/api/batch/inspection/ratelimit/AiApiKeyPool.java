@@ -0,0 +1,165 @@
+package com.tikitaka.api.batch.inspection.ratelimit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.tikitaka.api.batch.inspection.resilience.AiProviderUnavailableException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 제공자 하나의 API 키 묶음입니다. 키마다 호출량 제한기(RPM/TPM 버킷)를 따로 두므로, 키를 추가한 만큼 처리량이 늘어납니다.
+ * - 선택: 격리 중이 아닌 키 중 처리 중인 호출(호출량 대기 포함)이 가장 적은 키. 같으면 돌아가며 선택합니다.
+ * - 격리: 429(할당량 초과) 또는 403(키 차단/권한 없음)을 받은 키는 일정 시간 선택하지 않습니다. (키가 2개 이상일 때만)
+ *   모든 키가 격리 중이면 호출하지 않고 AiProviderUnavailableException으로 가장 빨리 풀리는 시점 이후에 다시 처리되도록 합니다.
+ * 첫 번째 키(기본 키)는 Files API, 컨텍스트 캐시, Batch 작업처럼 키(프로젝트)에 묶인 자원을 만드는 데 사용됩니다.
+ * 키별 선택/격리 횟수와 처리 중인 호출 수는 ai.api.key (provider, key, result), ai.api.key.in-flight로 노출됩니다.
+ */
+@Slf4j
+public class AiApiKeyPool {
+
+    private final String provider;
+    private final List<ApiKey> keys;
+    private final long rateLimitedQuarantineMillis;
+    private final long forbiddenQuarantineMillis;
+    private final MeterRegistry meterRegistry;
+
+    // 처리 중인 호출 수가 같은 키끼리 돌아가며 선택하기 위한 시작 위치
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public AiApiKeyPool(String provider, List<ApiKey> keys, long rateLimitedQuarantineMillis, long forbiddenQuarantineMillis,
+                        MeterRegistry meterRegistry) {
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("[" + provider + "] API 키가 없습니다.");
+        }
+        this.provider = provider;
+        this.keys = List.copyOf(keys);
+        this.rateLimitedQuarantineMillis = Math.max(0, rateLimitedQuarantineMillis);
+        this.forbiddenQuarantineMillis = Math.max(0, forbiddenQuarantineMillis);
+        this.meterRegistry = meterRegistry;
+        for (ApiKey key : this.keys) {
+            meterRegistry.gauge("ai.api.key.in-flight", Tags.of("provider", provider, "key", key.getLabel()), key.inFlight);
+        }
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * 호출에 사용할 키를 선택하고 처리 중인 호출 수를 늘립니다. 호출이 끝나면 반드시 release로 반납해야 합니다.
+     * @param primaryOnly true이면 기본 키만 사용 (기본 키로 만든 파일/캐시를 참조하는 요청)
+     * @return 선택한 키
+     * @throws AiProviderUnavailableException 사용할 수 있는 키가 모두 격리 중인 경우
+     */
+    public ApiKey acquire(boolean primaryOnly) {
+        long now = System.currentTimeMillis();
+        ApiKey selected = primaryOnly ? available(keys.get(0), now) : leastLoaded(now);
+        if (selected == null) {
+            long releaseAt = primaryOnly ? keys.get(0).quarantinedUntil
+                    : keys.stream().mapToLong(key -> key.quarantinedUntil).min().orElse(now);
+            count(primaryOnly ? keys.get(0) : null, "unavailable");
+            throw new AiProviderUnavailableException(provider,
+                    "[" + provider + "] 사용할 수 있는 API 키가 모두 격리 중입니다.", Math.max(0, releaseAt - now));
+        }
+        selected.inFlight.incrementAndGet();
+        count(selected, "selected");
+        return selected;
+    }
+
+    /**
+     * 호출이 끝난 키를 반납합니다. 429/403으로 실패했으면 해당 키를 격리합니다.
+     * @param key acquire로 받은 키
+     * @param error 호출 오류 (성공이면 null)
+     */
+    public void release(ApiKey key, Throwable error) {
+        key.inFlight.decrementAndGet();
+        if (error instanceof WebClientResponseException wce) {
+            quarantineIfNeeded(key, wce);
+        }
+    }
+
+    private ApiKey leastLoaded(long now) {
+        int start = Math.floorMod(cursor.getAndIncrement(), keys.size());
+        ApiKey best = null;
+        for (int i = 0; i < keys.size(); i++) {
+            ApiKey key = available(keys.get((start + i) % keys.size()), now);
+            if (key != null && (best == null || key.inFlight.get() < best.inFlight.get())) {
+                best = key;
+            }
+        }
+        return best;
+    }
+
+    private ApiKey available(ApiKey key, long now) {
+        return key.quarantinedUntil > now ? null : key;
+    }
+
+    private void quarantineIfNeeded(ApiKey key, WebClientResponseException e) {
+        // 키가 하나뿐이면 격리하지 않고 기존 재시도 규칙(429 대기 등)을 따릅니다.
+        if (keys.size() < 2) {
+            return;
+        }
+        int status = e.getStatusCode().value();
+        long quarantineMillis;
+        if (status == 429) {
+            quarantineMillis = Math.max(rateLimitedQuarantineMillis, parseRetryAfterMillis(e));
+        } else if (status == 403) {
+            quarantineMillis = forbiddenQuarantineMillis;
+        } else {
+            return;
+        }
+        if (quarantineMillis <= 0) {
+            return;
+        }
+        long until = System.currentTimeMillis() + quarantineMillis;
+        synchronized (key) {
+            key.quarantinedUntil = Math.max(key.quarantinedUntil, until);
+        }
+        count(key, "quarantined");
+        log.warn("[{}] API 키 {}가 {} 응답을 받아 {}ms 동안 사용하지 않습니다.", provider, key.getLabel(), status, quarantineMillis);
+    }
+
+    private long parseRetryAfterMillis(WebClientResponseException e) {
+        String retryAfter = e.getHeaders().getFirst("Retry-After");
+        if (retryAfter == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(retryAfter.trim()) * 1000L;
+        } catch (NumberFormatException ignore) {
+            return 0L;
+        }
+    }
+
+    private void count(ApiKey key, String result) {
+        meterRegistry.counter("ai.api.key", "provider", provider, "key", key != null ? key.getLabel() : "all", "result", result).increment();
+    }
+
+    /**
+     * 풀에 속한 API 키 하나입니다. 로그와 메트릭에는 키 값 대신 label(provider#순번)을 사용합니다.
+     */
+    public static final class ApiKey {
+
+        @Getter
+        private final String value;
+        @Getter
+        private final String label;
+        @Getter
+        private final AiRateLimiter rateLimiter;
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile long quarantinedUntil;
+
+        public ApiKey(String value, String label, AiRateLimiter rateLimiter) {
+            this.value = value;
+            this.label = label;
+            this.rateLimiter = rateLimiter;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.tikitaka.api.batch.inspection.ratelimit;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 제공자별 API 키 풀을 생성하고 보관합니다.
+ * 키는 {provider}.api.key(기본 키)와 {provider}.api.additional-keys(쉼표 구분, 선택)로 설정하며,
+ * 호출량 한도(ai.rate-limit.{provider}.*)는 키마다 따로 적용됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiApiKeyPoolRegistry {
+
+    // 429를 받은 키를 사용하지 않는 시간(ms). Retry-After 헤더가 더 길면 그 시간만큼
+    @Value("${ai.key-pool.rate-limited-quarantine-ms:60000}")
+    private long rateLimitedQuarantineMillis;
+
+    // 403을 받은 키를 사용하지 않는 시간(ms). 키 차단/만료는 금방 풀리지 않으므로 길게 둡니다.
+    @Value("${ai.key-pool.forbidden-quarantine-ms:600000}")
+    private long forbiddenQuarantineMillis;
+
+    private final Environment environment;
+    private final AiRateLimiterRegistry rateLimiterRegistry;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, AiApiKeyPool> pools = new ConcurrentHashMap<>();
+
+    /**
+     * @param provider AI 제공자 (gemini, openai)
+     * @return 해당 제공자의 API 키 풀
+     */
+    public AiApiKeyPool poolFor(String provider) {
+        return pools.computeIfAbsent(provider, this::createPool);
+    }
+
+    private AiApiKeyPool createPool(String provider) {
+        Set<String> values = new LinkedHashSet<>();
+        values.add(environment.getProperty(provider + ".api.key", ""));
+        for (String value : environment.getProperty(provider + ".api.additional-keys", "").split(",")) {
+            if (!value.isBlank()) {
+                values.add(value.trim());
+            }
+        }
+
+        List<AiApiKeyPool.ApiKey> keys = new ArrayList<>(values.size());
+        for (String value : values) {
+            int index = keys.size();
+            keys.add(new AiApiKeyPool.ApiKey(value, provider + "#" + index, rateLimiterRegistry.limiterFor(provider, index)));
+        }
+        log.info("[{}] API 키 풀 설정 - 키 수: {}, 격리 시간(429/403): {}ms/{}ms",
+                provider, keys.size(), rateLimitedQuarantineMillis, forbiddenQuarantineMillis);
+        return new AiApiKeyPool(provider, keys, rateLimitedQuarantineMillis, forbiddenQuarantineMillis, meterRegistry);
+    }
+}
@@ -0,0 +1,79 @@
+package com.tikitaka.api.batch.inspection.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 제공자(gemini, openai) 하나에 대한 호출량 제한기입니다.
+ * 분당 요청 수(RPM)와 분당 토큰 수(TPM) 버킷을 모두 통과해야 호출할 수 있습니다.
+ */
+@Slf4j
+public class AiRateLimiter {
+
+    @Getter
+    private final String provider;
+    private final TokenBucket requestBucket; // null이면 RPM 제한 없음
+    private final TokenBucket tokenBucket;   // null이면 TPM 제한 없음
+    private final int tokensPerImage;
+
+    public AiRateLimiter(String provider, TokenBucket requestBucket, TokenBucket tokenBucket, int tokensPerImage) {
+        this.provider = provider;
+        this.requestBucket = requestBucket;
+        this.tokenBucket = tokenBucket;
+        this.tokensPerImage = tokensPerImage;
+    }
+
+    /**
+     * 호출 전 예상 토큰 수를 계산합니다.
+     * 한글 위주 프롬프트 기준으로 약 2글자당 1토큰, 이미지는 장당 설정값으로 추정합니다.
+     * @param textChars 프롬프트 텍스트 길이
+     * @param imageCount 첨부 이미지 수
+     * @return 예상 토큰 수
+     */
+    public int estimateTokens(int textChars, int imageCount) {
+        return textChars / 2 + imageCount * tokensPerImage;
+    }
+
+    /**
+     * 요청 1건과 예상 토큰을 예약합니다.
+     * @param estimatedTokens 예상 토큰 수
+     * @return 호출 전에 대기해야 하는 시간(ns)
+     */
+    public long reserve(int estimatedTokens) {
+        long waitNanos = 0L;
+        try {
+            if (requestBucket != null) {
+                waitNanos = Math.max(waitNanos, requestBucket.reserve(1));
+            }
+            if (tokenBucket != null && estimatedTokens > 0) {
+                waitNanos = Math.max(waitNanos, tokenBucket.reserve(estimatedTokens));
+            }
+        } catch (Exception e) {
+            // 공유 버킷(DB) 조회 실패 시 검수를 멈추지 않고 제한 없이 진행합니다.
+            log.warn("[{}] 호출량 제한 버킷 조회 실패. 제한 없이 진행합니다: {}", provider, e.getMessage());
+        }
+        return waitNanos;
+    }
+
+    /**
+     * 호출량 한도 내에서 호출할 수 있을 때까지 대기합니다.
+     * @param estimatedTokens 예상 토큰 수
+     */
+    public void acquire(int estimatedTokens) {
+        long waitNanos = reserve(estimatedTokens);
+        if (waitNanos <= 0) {
+            return;
+        }
+
+        log.debug("[{}] 호출량 한도 도달. {}ms 대기 후 호출합니다. (예상 토큰: {})",
+                provider, TimeUnit.NANOSECONDS.toMillis(waitNanos), estimatedTokens);
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("AI 호출량 제한 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+}
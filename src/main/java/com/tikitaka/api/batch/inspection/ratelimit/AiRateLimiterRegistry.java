@@ -0,0 +1,84 @@
+package com.tikitaka.api.batch.inspection.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 제공자별 호출량 제한기를 생성하고 보관합니다.
+ * 한도는 ai.rate-limit.{provider}.rpm / ai.rate-limit.{provider}.tpm 속성으로 설정하며, API 키마다 따로 적용됩니다. (AiApiKeyPool)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiRateLimiterRegistry {
+
+    // Y: PostgreSQL 버킷으로 모든 노드가 한도를 공유, N: 노드별 로컬 버킷
+    @Value("${ai.rate-limit.shared-yn:N}")
+    private String sharedYn;
+
+    // 순간적으로 몰아서 호출할 수 있는 최대 구간(초). 버킷 용량 = 초당 충전량 * burstSeconds
+    @Value("${ai.rate-limit.burst-seconds:10}")
+    private int burstSeconds;
+
+    // 한도 대비 실제 사용 비율 (429를 피하기 위해 한도보다 약간 낮게 운영)
+    @Value("${ai.rate-limit.utilization:0.9}")
+    private double utilization;
+
+    private final Environment environment;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<String, AiRateLimiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * @param provider AI 제공자 (gemini, openai)
+     * @return 해당 제공자의 호출량 제한기
+     */
+    public AiRateLimiter limiterFor(String provider) {
+        return limiterFor(provider, 0);
+    }
+
+    /**
+     * @param provider AI 제공자 (gemini, openai)
+     * @param keyIndex API 키 순번 (0: 기본 키)
+     * @return 해당 API 키의 호출량 제한기
+     */
+    public AiRateLimiter limiterFor(String provider, int keyIndex) {
+        // 기본 키는 기존 버킷 이름(provider:rpm)을 그대로 사용하여 공유 버킷의 상태를 이어받습니다.
+        String name = keyIndex == 0 ? provider : provider + "#" + keyIndex;
+        return limiters.computeIfAbsent(name, key -> createLimiter(provider, key));
+    }
+
+    private AiRateLimiter createLimiter(String provider, String name) {
+        String prefix = "ai.rate-limit." + provider + ".";
+        int rpm = environment.getProperty(prefix + "rpm", Integer.class, 0);
+        int tpm = environment.getProperty(prefix + "tpm", Integer.class, 0);
+        int tokensPerImage = environment.getProperty(prefix + "tokens-per-image", Integer.class, 1000);
+
+        log.info("[{}] AI 호출량 제한 설정 - RPM: {}, TPM: {}, 공유 버킷: {}", name, rpm, tpm, sharedYn);
+        return new AiRateLimiter(name,
+                createBucket(name + ":rpm", rpm),
+                createBucket(name + ":tpm", tpm),
+                tokensPerImage);
+    }
+
+    private TokenBucket createBucket(String bucketKey, int perMinute) {
+        if (perMinute <= 0) {
+            return null;
+        }
+        double refillPerSecond = perMinute * utilization / 60d;
+        double capacity = Math.max(1d, refillPerSecond * burstSeconds);
+
+        if ("Y".equalsIgnoreCase(sharedYn)) {
+            return new DBTokenBucket(jdbcTemplate, bucketKey, capacity, refillPerSecond);
+        }
+        return new LocalTokenBucket(capacity, refillPerSecond);
+    }
+}
@@ -0,0 +1,41 @@
+package com.tikitaka.api.batch.inspection.ratelimit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * PostgreSQL 행 하나를 버킷으로 사용하여 여러 노드가 같은 한도를 공유하는 토큰 버킷입니다.
+ * 충전과 차감을 하나의 UPSERT 문장으로 처리하므로 노드 간 경합이 있어도 한도를 넘지 않습니다.
+ */
+public class DBTokenBucket implements TokenBucket {
+
+    private static final String RESERVE_SQL =
+            "INSERT INTO ai_rate_limit_bucket (bucket_key, tokens, updated_at)"
+          + " VALUES (?, ?, clock_timestamp())"
+          + " ON CONFLICT (bucket_key) DO UPDATE"
+          + "    SET tokens = LEAST(?, ai_rate_limit_bucket.tokens"
+          + "                          + EXTRACT(EPOCH FROM (clock_timestamp() - ai_rate_limit_bucket.updated_at)) * ?) - ?"
+          + "      , updated_at = clock_timestamp()"
+          + " RETURNING tokens";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String bucketKey;
+    private final double capacity;
+    private final double refillPerSecond;
+
+    public DBTokenBucket(JdbcTemplate jdbcTemplate, String bucketKey, double capacity, double refillPerSecond) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.bucketKey = bucketKey;
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+    }
+
+    @Override
+    public long reserve(long permits) {
+        Double remaining = jdbcTemplate.queryForObject(RESERVE_SQL, Double.class,
+                bucketKey, capacity - permits, capacity, refillPerSecond, (double) permits);
+        if (remaining == null || remaining >= 0) {
+            return 0L;
+        }
+        return (long) Math.ceil(-remaining / refillPerSecond * 1_000_000_000d);
+    }
+}
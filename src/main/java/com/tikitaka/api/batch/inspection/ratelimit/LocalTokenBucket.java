@@ -0,0 +1,38 @@
+package com.tikitaka.api.batch.inspection.ratelimit;
+
+/**
+ * 노드(JVM) 단위로 동작하는 메모리 기반 토큰 버킷입니다.
+ */
+public class LocalTokenBucket implements TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * @param capacity 버킷 최대 용량 (순간적으로 허용되는 최대 사용량)
+     * @param refillPerSecond 초당 충전되는 토큰 수
+     */
+    public LocalTokenBucket(double capacity, double refillPerSecond) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    @Override
+    public synchronized long reserve(long permits) {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+
+        // 잔량이 부족해도 먼저 차감하고(음수 허용), 부족분이 채워질 때까지의 시간을 돌려줍니다.
+        tokens -= permits;
+        if (tokens >= 0) {
+            return 0L;
+        }
+        return (long) Math.ceil(-tokens / refillPerNano);
+    }
+}
@@ -0,0 +1,15 @@
+package com.tikitaka.api.batch.inspection.ratelimit;
+
+/**
+ * AI API 호출량 제한에 사용하는 토큰 버킷입니다.
+ * 요청한 양을 즉시 차감(예약)하고, 잔량이 부족하면 다시 채워질 때까지 기다려야 하는 시간을 반환합니다.
+ */
+public interface TokenBucket {
+
+    /**
+     * 토큰을 예약합니다.
+     * @param permits 차감할 토큰 수
+     * @return 호출 전에 대기해야 하는 시간(ns), 바로 호출 가능하면 0
+     */
+    long reserve(long permits);
+}
@@ -0,0 +1,64 @@
+package com.tikitaka.api.batch.inspection.resilience;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import lombok.Getter;
+
+/**
+ * AI 제공자 하나에 동시에 보낼 수 있는 최대 호출 수를 제한합니다. (호출량 제한/동시 호출 한도를 기다리는 요청은 세지 않음)
+ * 자리가 없으면 maxWait 동안만 기다리고, 그래도 없으면 즉시 실패하여 스레드가 한 제공자에 몰려 묶이지 않도록 합니다.
+ */
+public class AiBulkhead {
+
+    @Getter
+    private final String provider;
+    private final int maxConcurrent;
+    private final long maxWaitMillis;
+    private final Semaphore permits;
+
+    public AiBulkhead(String provider, int maxConcurrent, long maxWaitMillis) {
+        this.provider = provider;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.maxWaitMillis = Math.max(0L, maxWaitMillis);
+        this.permits = new Semaphore(this.maxConcurrent);
+    }
+
+    /**
+     * 자리를 얻을 때까지 최대 maxWait 동안 대기합니다.
+     */
+    public void acquire() {
+        boolean acquired;
+        try {
+            acquired = maxWaitMillis > 0 ? permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS) : permits.tryAcquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            throw full();
+        }
+    }
+
+    /**
+     * 대기하지 않고 자리를 얻습니다. (논블로킹 호출용)
+     */
+    public void tryAcquire() {
+        if (!permits.tryAcquire()) {
+            throw full();
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    private AiProviderUnavailableException full() {
+        return new AiProviderUnavailableException(provider,
+                "[" + provider + "] AI 제공자 동시 작업 한도(" + maxConcurrent + ")를 초과하여 호출하지 않았습니다.", 1000L);
+    }
+}
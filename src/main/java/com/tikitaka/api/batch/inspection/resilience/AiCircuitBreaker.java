@@ -0,0 +1,145 @@
+package com.tikitaka.api.batch.inspection.resilience;
+
+import java.util.concurrent.TimeUnit;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 제공자 하나에 대한 회로 차단기입니다.
+ * - CLOSED   : 최근 windowSize건 중 실패 비율이 failureRateThreshold 이상이면(최소 minimumCalls건 이후) OPEN으로 전환
+ * - OPEN     : openDuration 동안 호출하지 않고 즉시 실패
+ * - HALF_OPEN: openDuration이 지나면 probeCalls건만 시험 호출하여, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+@Slf4j
+public class AiCircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    @Getter
+    private final String provider;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int probeCalls;
+
+    // 최근 호출 결과 (true: 실패) 원형 버퍼
+    private final boolean[] window;
+    private int windowIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesStarted;
+    private int probesSucceeded;
+
+    public AiCircuitBreaker(String provider, int windowSize, int minimumCalls, double failureRateThreshold,
+                            long openDurationMillis, int probeCalls) {
+        this.provider = provider;
+        this.windowSize = Math.max(1, windowSize);
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, this.windowSize));
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMillis);
+        this.probeCalls = Math.max(1, probeCalls);
+        this.window = new boolean[this.windowSize];
+    }
+
+    /**
+     * 호출해도 되는지 확인합니다. 회로가 열려 있으면 즉시 AiProviderUnavailableException을 던집니다.
+     */
+    public synchronized void acquirePermission() {
+        if (state == State.OPEN) {
+            long elapsed = System.nanoTime() - openedAt;
+            if (elapsed < openDurationNanos) {
+                throw unavailable(TimeUnit.NANOSECONDS.toMillis(openDurationNanos - elapsed));
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesStarted >= probeCalls) {
+                // 시험 호출 결과를 기다리는 중
+                throw unavailable(TimeUnit.NANOSECONDS.toMillis(openDurationNanos) / 2);
+            }
+            probesStarted++;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++probesSucceeded >= probeCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && recordedCalls >= minimumCalls
+                && (double) failedCalls / recordedCalls >= failureRateThreshold) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * 실패로 집계하지 않는 결과(요청 오류, 취소 등). 시험 호출 중이었다면 다른 호출이 시험할 수 있도록 자리를 돌려줍니다.
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && probesStarted > 0) {
+            probesStarted--;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == windowSize) {
+            if (window[windowIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        windowIndex = (windowIndex + 1) % windowSize;
+    }
+
+    private void transitionTo(State newState) {
+        if (state == newState) {
+            return;
+        }
+        log.warn("[{}] AI 회로 차단기 상태 변경: {} -> {}", provider, state, newState);
+        state = newState;
+        if (newState == State.OPEN) {
+            openedAt = System.nanoTime();
+        }
+        if (newState == State.HALF_OPEN) {
+            probesStarted = 0;
+            probesSucceeded = 0;
+        }
+        if (newState == State.CLOSED) {
+            windowIndex = 0;
+            recordedCalls = 0;
+            failedCalls = 0;
+        }
+    }
+
+    private AiProviderUnavailableException unavailable(long retryAfterMillis) {
+        return new AiProviderUnavailableException(provider,
+                "[" + provider + "] AI 제공자 회로가 차단되어 호출하지 않았습니다. (상태: " + state + ")", Math.max(1000L, retryAfterMillis));
+    }
+}
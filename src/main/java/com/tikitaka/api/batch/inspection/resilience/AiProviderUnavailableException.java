@@ -0,0 +1,20 @@
+package com.tikitaka.api.batch.inspection.resilience;
+
+import lombok.Getter;
+
+/**
+ * AI 제공자 호출을 시도하지 않고 즉시 실패시킨 경우(회로 차단 또는 bulkhead 초과) 발생합니다.
+ * 요청의 문제가 아니므로 재시도 횟수를 소모하지 않고 retryAfterMillis 이후 다시 처리되도록 PENDING으로 되돌립니다.
+ */
+@Getter
+public class AiProviderUnavailableException extends RuntimeException {
+
+    private final String provider;
+    private final long retryAfterMillis;
+
+    public AiProviderUnavailableException(String provider, String message, long retryAfterMillis) {
+        super(message);
+        this.provider = provider;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+}
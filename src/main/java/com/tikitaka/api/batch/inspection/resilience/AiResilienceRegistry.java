@@ -0,0 +1,71 @@
+package com.tikitaka.api.batch.inspection.resilience;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 제공자별 회로 차단기와 bulkhead를 생성하고 보관합니다.
+ * 설정: ai.circuit-breaker.{provider}.* / ai.bulkhead.{provider}.* (제공자 설정이 없으면 공통 설정 ai.circuit-breaker.* / ai.bulkhead.* 사용)
+ * 회로 상태는 ai.circuit.state (0: CLOSED, 1: HALF_OPEN, 2: OPEN), bulkhead 사용량은 ai.bulkhead.active로 노출됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiResilienceRegistry {
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, AiCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final Map<String, AiBulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public AiCircuitBreaker circuitBreakerFor(String provider) {
+        return circuitBreakers.computeIfAbsent(provider, this::createCircuitBreaker);
+    }
+
+    public AiBulkhead bulkheadFor(String provider) {
+        return bulkheads.computeIfAbsent(provider, this::createBulkhead);
+    }
+
+    private AiCircuitBreaker createCircuitBreaker(String provider) {
+        int windowSize = property("ai.circuit-breaker", provider, "window-size", Integer.class, 20);
+        int minimumCalls = property("ai.circuit-breaker", provider, "minimum-calls", Integer.class, 10);
+        double failureRate = property("ai.circuit-breaker", provider, "failure-rate-threshold", Double.class, 0.5);
+        long openDurationMillis = property("ai.circuit-breaker", provider, "open-duration-ms", Long.class, 30_000L);
+        int probeCalls = property("ai.circuit-breaker", provider, "probe-calls", Integer.class, 3);
+
+        AiCircuitBreaker circuitBreaker = new AiCircuitBreaker(provider, windowSize, minimumCalls, failureRate, openDurationMillis, probeCalls);
+        Gauge.builder("ai.circuit.state", circuitBreaker, cb -> cb.getState().ordinal())
+                .description("AI 제공자별 회로 상태 (0: CLOSED, 1: HALF_OPEN, 2: OPEN)")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        log.info("[{}] AI 회로 차단기 설정 - 최근 {}건 중 실패율 {} 이상이면 {}ms 차단", provider, windowSize, failureRate, openDurationMillis);
+        return circuitBreaker;
+    }
+
+    private AiBulkhead createBulkhead(String provider) {
+        int maxConcurrent = property("ai.bulkhead", provider, "max-concurrent", Integer.class, 100);
+        long maxWaitMillis = property("ai.bulkhead", provider, "max-wait-ms", Long.class, 0L);
+
+        AiBulkhead bulkhead = new AiBulkhead(provider, maxConcurrent, maxWaitMillis);
+        Gauge.builder("ai.bulkhead.active", bulkhead, AiBulkhead::getActive)
+                .description("AI 제공자별 bulkhead 사용 중인 자리 수")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        log.info("[{}] AI bulkhead 설정 - 최대 동시 작업: {}, 최대 대기: {}ms", provider, maxConcurrent, maxWaitMillis);
+        return bulkhead;
+    }
+
+    private <T> T property(String prefix, String provider, String key, Class<T> type, T defaultValue) {
+        T common = environment.getProperty(prefix + "." + key, type, defaultValue);
+        return environment.getProperty(prefix + "." + provider + "." + key, type, common);
+    }
+}
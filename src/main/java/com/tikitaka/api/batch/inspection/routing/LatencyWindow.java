@@ -0,0 +1,53 @@
+package com.tikitaka.api.batch.inspection.routing;
+
+import java.util.Arrays;
+
+/**
+ * 최근 N건의 응답 지연을 보관하고 백분위 값을 계산합니다.
+ * 백분위는 매 조회마다 정렬하지 않고 일정 건수가 새로 기록될 때마다 다시 계산합니다.
+ */
+class LatencyWindow {
+
+    private static final int RECALCULATE_EVERY = 20;
+
+    private final long[] samples;
+    private final double percentile;
+    private final int minSamples;
+
+    private int next;
+    private int count;
+    private int sinceRecalculated;
+    private long cachedPercentileMillis = -1;
+
+    LatencyWindow(int size, double percentile, int minSamples) {
+        this.samples = new long[Math.max(1, size)];
+        this.percentile = Math.min(1d, Math.max(0d, percentile));
+        this.minSamples = Math.max(1, Math.min(minSamples, samples.length));
+    }
+
+    synchronized void record(long latencyMillis) {
+        samples[next] = latencyMillis;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+        if (++sinceRecalculated >= RECALCULATE_EVERY || cachedPercentileMillis < 0) {
+            recalculate();
+        }
+    }
+
+    /**
+     * @return 백분위 지연(ms), 기록이 minSamples건 미만이면 -1
+     */
+    synchronized long percentileMillis() {
+        return count < minSamples ? -1 : cachedPercentileMillis;
+    }
+
+    private void recalculate() {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * count) - 1;
+        cachedPercentileMillis = sorted[Math.min(Math.max(index, 0), count - 1)];
+        sinceRecalculated = 0;
+    }
+}
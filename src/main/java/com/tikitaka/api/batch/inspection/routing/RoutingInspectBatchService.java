@@ -0,0 +1,218 @@
+package com.tikitaka.api.batch.inspection.routing;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.tikitaka.api.batch.goods.entity.Goods;
+import com.tikitaka.api.batch.inspection.ChatGPTInspectBatchServiceImpl;
+import com.tikitaka.api.batch.inspection.GeminiInspectBatchServiceImpl;
+import com.tikitaka.api.batch.inspection.InspectBatchService;
+import com.tikitaka.api.batch.inspection.dto.FileContent;
+import com.tikitaka.api.batch.inspection.dto.InspectionResult;
+import com.tikitaka.api.batch.inspection.resilience.AiProviderUnavailableException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * 주 제공자(ai.routing.primary)로 검수하고, 장애 시 다른 제공자로 넘기는 기본 검수 서비스입니다.
+ * - 장애 전환(ai.routing.failover-yn): 회로 차단/bulkhead 초과, 연결 실패, 시간 초과, 429/5xx이면 보조 제공자로 다시 호출합니다.
+ *   요청 오류(4xx)는 보조 제공자에서도 같을 가능성이 높으므로 그대로 전달합니다.
+ * - 헤지(ai.routing.hedge-yn): 주 제공자가 지연 기준(기본: 최근 응답 지연의 p95) 안에 응답하지 않으면 보조 제공자도 호출하고
+ *   먼저 도착한 결과를 사용합니다. 늦은 쪽 호출은 취소됩니다.
+ * 어느 제공자의 결과를 사용했는지는 ai.routing.result (provider, route=primary|failover|hedge)로 노출됩니다.
+ */
+@Slf4j
+@Service
+@Primary // 기본 구현체로 지정
+public class RoutingInspectBatchService implements InspectBatchService {
+
+    // 헤지 지연 기준을 계산할 최근 응답 수 / 계산에 필요한 최소 응답 수
+    private static final int LATENCY_WINDOW_SIZE = 500;
+    private static final int LATENCY_MIN_SAMPLES = 50;
+
+    private final InspectBatchService primary;
+    private final InspectBatchService secondary;
+    private final String primaryProvider;
+    private final String secondaryProvider;
+    private final boolean failoverEnabled;
+    private final boolean hedgeEnabled;
+    private final long fixedHedgeDelayMillis;
+    private final long minHedgeDelayMillis;
+    private final LatencyWindow primaryLatency;
+    private final MeterRegistry meterRegistry;
+
+    public RoutingInspectBatchService(GeminiInspectBatchServiceImpl geminiInspectService,
+                                      ChatGPTInspectBatchServiceImpl chatGptInspectService,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${ai.routing.primary:gemini}") String primaryProvider,
+                                      @Value("${ai.routing.failover-yn:N}") String failoverYn,
+                                      @Value("${ai.routing.hedge-yn:N}") String hedgeYn,
+                                      @Value("${ai.routing.hedge.delay-ms:0}") long hedgeDelayMillis,
+                                      @Value("${ai.routing.hedge.percentile:0.95}") double hedgePercentile,
+                                      @Value("${ai.routing.hedge.min-delay-ms:1000}") long minHedgeDelayMillis) {
+        boolean openaiPrimary = "openai".equalsIgnoreCase(primaryProvider);
+        this.primary = openaiPrimary ? chatGptInspectService : geminiInspectService;
+        this.secondary = openaiPrimary ? geminiInspectService : chatGptInspectService;
+        this.primaryProvider = openaiPrimary ? "openai" : "gemini";
+        this.secondaryProvider = openaiPrimary ? "gemini" : "openai";
+        this.failoverEnabled = "Y".equalsIgnoreCase(failoverYn);
+        this.hedgeEnabled = "Y".equalsIgnoreCase(hedgeYn);
+        this.fixedHedgeDelayMillis = hedgeDelayMillis;
+        this.minHedgeDelayMillis = Math.max(0, minHedgeDelayMillis);
+        this.primaryLatency = new LatencyWindow(LATENCY_WINDOW_SIZE, hedgePercentile, LATENCY_MIN_SAMPLES);
+        this.meterRegistry = meterRegistry;
+        log.info("AI 검수 라우팅 설정 - 주 제공자: {}, 보조 제공자: {}, 장애 전환: {}, 헤지: {}",
+                this.primaryProvider, this.secondaryProvider, failoverEnabled, hedgeEnabled);
+    }
+
+    @Override
+    public InspectionResult performAiInspection(Goods goods, MultipartFile[] files, String forbiddenWords) throws Exception {
+        return callWithFailover(service -> service.performAiInspection(goods, files, forbiddenWords));
+    }
+
+    @Override
+    public InspectionResult performAiInspection(Goods goods, List<FileContent> fileContents, String forbiddenWords) throws Exception {
+        if (hedgeEnabled) {
+            // 헤지는 두 호출을 동시에 진행해야 하므로 논블로킹 경로를 사용합니다.
+            return performAiInspectionReactive(goods, fileContents, forbiddenWords).block();
+        }
+        return callWithFailover(service -> service.performAiInspection(goods, fileContents, forbiddenWords));
+    }
+
+    @Override
+    public Mono<InspectionResult> performAiInspectionReactive(Goods goods, List<FileContent> fileContents, String forbiddenWords) {
+        Mono<InspectionResult> primaryCall = Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            // 헤지가 이겨 취소된 호출은 실제 지연을 알 수 없지만 최소한 취소 시점까지는 걸린 것이므로 그 값을 기록합니다.
+            // (느린 응답만 빠지면 백분위 값이 점점 낮아져 헤지가 과하게 늘어납니다.)
+            return primary.performAiInspectionReactive(goods, fileContents, forbiddenWords)
+                    .doOnNext(result -> primaryLatency.record(elapsedMillis(startNanos)))
+                    .doOnCancel(() -> primaryLatency.record(elapsedMillis(startNanos)));
+        });
+        Mono<InspectionResult> secondaryCall = Mono.defer(() -> secondary.performAiInspectionReactive(goods, fileContents, forbiddenWords));
+
+        Duration hedgeDelay = hedgeEnabled ? hedgeDelay() : null;
+        if (hedgeDelay == null) {
+            Mono<InspectionResult> routed = primaryCall.doOnNext(result -> count(primaryProvider, "primary"));
+            if (!failoverEnabled) {
+                return routed;
+            }
+            return routed.onErrorResume(this::isFailoverError, e -> {
+                log.warn("[{}] AI 호출 실패로 {}(으)로 전환합니다. 원인: {}", primaryProvider, secondaryProvider, e.getMessage());
+                return secondaryCall
+                        .doOnNext(result -> count(secondaryProvider, "failover"))
+                        .onErrorMap(secondaryError -> withSuppressed(e, secondaryError));
+            });
+        }
+
+        // 주 제공자 호출은 결과 대기와 헤지 시점 판단에서 함께 구독하므로 공유합니다. (모두 취소되면 호출도 취소)
+        Mono<InspectionResult> sharedPrimary = primaryCall.share();
+        // 헤지 시점: 지연 기준이 지나거나, 그 전에 주 제공자가 장애로 실패한 경우. 장애가 아닌 오류는 헤지하지 않고 그대로 전달합니다.
+        Mono<Long> hedgeTrigger = Mono.firstWithSignal(
+                Mono.delay(hedgeDelay),
+                sharedPrimary.then(Mono.<Long>never())
+                        .onErrorResume(e -> isFailoverError(e) ? Mono.just(0L) : Mono.error(e)));
+        Mono<InspectionResult> hedgedCall = hedgeTrigger
+                .then(Mono.defer(() -> {
+                    log.debug("[{}] {}ms 안에 응답이 없거나 실패하여 {}도 호출합니다.", primaryProvider, hedgeDelay.toMillis(), secondaryProvider);
+                    return secondaryCall;
+                }))
+                .doOnNext(result -> count(secondaryProvider, "hedge"));
+
+        return Mono.firstWithValue(sharedPrimary.doOnNext(result -> count(primaryProvider, "primary")), hedgedCall)
+                // 둘 다 실패하면 주 제공자의 오류를 전달합니다. (재시도 대기 시간은 원래 오류 유형으로 계산)
+                .onErrorMap(NoSuchElementException.class, e -> e.getSuppressed().length > 0 ? e.getSuppressed()[0] : e);
+    }
+
+    @Override
+    public String getInspectorId() {
+        return primary.getInspectorId();
+    }
+
+    private InspectionResult callWithFailover(InspectionCall call) throws Exception {
+        long startNanos = System.nanoTime();
+        try {
+            InspectionResult result = call.inspect(primary);
+            primaryLatency.record(elapsedMillis(startNanos));
+            count(primaryProvider, "primary");
+            return result;
+        } catch (Exception e) {
+            if (!failoverEnabled || !isFailoverError(e)) {
+                throw e;
+            }
+            log.warn("[{}] AI 호출 실패로 {}(으)로 전환합니다. 원인: {}", primaryProvider, secondaryProvider, e.getMessage());
+            try {
+                InspectionResult result = call.inspect(secondary);
+                count(secondaryProvider, "failover");
+                return result;
+            } catch (Exception secondaryError) {
+                e.addSuppressed(secondaryError);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 제공자 쪽 장애로 볼 수 있는 오류인지 확인합니다. (다른 제공자에서는 성공할 가능성이 있는 오류)
+     */
+    private boolean isFailoverError(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof AiProviderUnavailableException
+                    || cause instanceof WebClientRequestException
+                    || cause instanceof TimeoutException) {
+                return true;
+            }
+            if (cause instanceof WebClientResponseException wce) {
+                return wce.getStatusCode().value() == 429 || wce.getStatusCode().is5xxServerError();
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 헤지 지연 기준: 고정값(ai.routing.hedge.delay-ms)이 있으면 그 값, 없으면 최근 응답 지연의 백분위 값
+     * @return 지연 기준, 응답 기록이 부족하면 null (헤지하지 않음)
+     */
+    private Duration hedgeDelay() {
+        if (fixedHedgeDelayMillis > 0) {
+            return Duration.ofMillis(fixedHedgeDelayMillis);
+        }
+        long percentileMillis = primaryLatency.percentileMillis();
+        if (percentileMillis < 0) {
+            return null;
+        }
+        return Duration.ofMillis(Math.max(percentileMillis, minHedgeDelayMillis));
+    }
+
+    private Throwable withSuppressed(Throwable primaryError, Throwable secondaryError) {
+        primaryError.addSuppressed(secondaryError);
+        return primaryError;
+    }
+
+    private void count(String provider, String route) {
+        meterRegistry.counter("ai.routing.result", "provider", provider, "route", route).increment();
+    }
+
+    private long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    @FunctionalInterface
+    private interface InspectionCall {
+        InspectionResult inspect(InspectBatchService service) throws Exception;
+    }
+}
@@ -0,0 +1,25 @@
+package com.tikitaka.api.global.config;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 큐가 가득 차면 작업을 버리거나 호출 스레드에서 실행하지 않고, 자리가 날 때까지 제출한 스레드를 대기시킵니다.
+ * 단계별 스레드 풀 사이에서 앞 단계가 뒤 단계보다 빠를 때 자연스럽게 속도를 맞추는(backpressure) 용도입니다.
+ */
+class BlockingRejectedExecutionHandler implements RejectedExecutionHandler {
+
+    @Override
+    public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("스레드 풀이 종료되어 작업을 실행할 수 없습니다.");
+        }
+        try {
+            executor.getQueue().put(runnable);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("스레드 풀 큐 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.tikitaka.api.global.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 외부 호출 대상별로 커넥션 풀을 분리한 WebClient 설정입니다.
+ * - gemini / openai: AI API 호출 (검수, Files API, Batch 작업)
+ * - callback: 검수 결과 콜백, 모니터링 전송
+ * 대상별 설정은 http.client.{name}.* 로 지정하고, 없으면 공통 설정 http.client.* 를 사용합니다.
+ * 커넥션을 재사용하고 연결/응답 시간 제한을 명시하여, 응답 없는 소켓이 검수 스레드를 붙잡지 않도록 합니다.
+ * 풀 사용량은 reactor.netty.connection.provider.* (name=대상) 메트릭으로 노출됩니다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class HttpClientConfig {
+
+    public static final String GEMINI_WEB_CLIENT_BUILDER = "geminiWebClientBuilder";
+    public static final String OPENAI_WEB_CLIENT_BUILDER = "openaiWebClientBuilder";
+    public static final String CALLBACK_WEB_CLIENT = "callbackWebClient";
+
+    private final Environment environment;
+    private final ObjectProvider<WebClientCustomizer> webClientCustomizers;
+
+    private final List<ConnectionProvider> connectionProviders = new CopyOnWriteArrayList<>();
+
+    @Bean
+    public ReactorClientHttpConnector geminiHttpConnector() {
+        return connector("gemini");
+    }
+
+    @Bean
+    public ReactorClientHttpConnector openaiHttpConnector() {
+        return connector("openai");
+    }
+
+    @Bean
+    public ReactorClientHttpConnector callbackHttpConnector() {
+        return connector("callback");
+    }
+
+    /**
+     * 사용하는 쪽에서 baseUrl 등을 추가로 설정할 수 있도록 주입마다 새 Builder를 만듭니다. (커넥션 풀은 공유)
+     */
+    @Bean(name = GEMINI_WEB_CLIENT_BUILDER)
+    @Scope("prototype")
+    public WebClient.Builder geminiWebClientBuilder(@Qualifier("geminiHttpConnector") ReactorClientHttpConnector connector) {
+        return builder(connector, "gemini");
+    }
+
+    @Bean(name = OPENAI_WEB_CLIENT_BUILDER)
+    @Scope("prototype")
+    public WebClient.Builder openaiWebClientBuilder(@Qualifier("openaiHttpConnector") ReactorClientHttpConnector connector) {
+        return builder(connector, "openai");
+    }
+
+    @Bean(name = CALLBACK_WEB_CLIENT)
+    public WebClient callbackWebClient(@Qualifier("callbackHttpConnector") ReactorClientHttpConnector connector) {
+        return builder(connector, "callback").build();
+    }
+
+    @PreDestroy
+    public void disposeConnectionProviders() {
+        connectionProviders.forEach(ConnectionProvider::dispose);
+    }
+
+    /**
+     * 이 설정의 Builder 빈이 있으면 Spring Boot 기본 WebClient.Builder가 생성되지 않으므로,
+     * 기본 Builder와 같은 설정(ObjectMapper 코덱 등)을 WebClientCustomizer로 직접 적용합니다.
+     */
+    private WebClient.Builder builder(ReactorClientHttpConnector connector, String name) {
+        int maxInMemorySizeKb = property(name, "max-in-memory-size-kb", Integer.class, 2048);
+        WebClient.Builder webClientBuilder = WebClient.builder();
+        webClientCustomizers.orderedStream().forEach(customizer -> customizer.customize(webClientBuilder));
+        return webClientBuilder
+                .clientConnector(connector)
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(maxInMemorySizeKb * 1024));
+    }
+
+    private ReactorClientHttpConnector connector(String name) {
+        int maxConnections = property(name, "max-connections", Integer.class, 200);
+        long pendingAcquireTimeoutMillis = property(name, "pending-acquire-timeout-ms", Long.class, 30_000L);
+        long maxIdleTimeMillis = property(name, "max-idle-time-ms", Long.class, 30_000L);
+        long maxLifeTimeMillis = property(name, "max-life-time-ms", Long.class, 300_000L);
+        int connectTimeoutMillis = property(name, "connect-timeout-ms", Integer.class, 5_000);
+        long responseTimeoutMillis = property(name, "response-timeout-ms", Long.class, 120_000L);
+        boolean http2 = "Y".equalsIgnoreCase(property(name, "http2-yn", String.class, "N"));
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(name)
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+                // 서버가 먼저 끊은 유휴 커넥션을 재사용하지 않도록 유휴/최대 수명을 제한하고 주기적으로 정리합니다.
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMillis))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMillis))
+                .evictInBackground(Duration.ofMillis(Math.max(1_000L, maxIdleTimeMillis / 2)))
+                .metrics(true)
+                .build();
+        connectionProviders.add(connectionProvider);
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                // 응답 데이터가 이 시간 동안 한 번도 오지 않으면 연결을 끊습니다. (스트리밍 응답은 청크 사이 간격 기준)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMillis))
+                // URI별 태그를 만들지 않도록 대상 이름 하나로 집계합니다.
+                .metrics(true, uri -> name);
+        if (http2) {
+            // TLS(ALPN)로 HTTP/2를 협상하고, 지원하지 않으면 HTTP/1.1을 사용합니다.
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
+        log.info("[{}] HTTP 커넥션 풀 설정 - 최대 연결: {}, 연결 제한: {}ms, 응답 제한: {}ms, 유휴: {}ms, HTTP/2: {}",
+                name, maxConnections, connectTimeoutMillis, responseTimeoutMillis, maxIdleTimeMillis, http2);
+        return new ReactorClientHttpConnector(httpClient);
+    }
+
+    private <T> T property(String name, String key, Class<T> type, T defaultValue) {
+        T common = environment.getProperty("http.client." + key, type, defaultValue);
+        return environment.getProperty("http.client." + name + "." + key, type, common);
+    }
+}
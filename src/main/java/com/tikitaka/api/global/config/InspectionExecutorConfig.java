@@ -0,0 +1,139 @@
+package com.tikitaka.api.global.config;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 검수 작업을 실행하는 공용 실행기 설정입니다.
+ * 배치 실행마다 스레드 풀을 새로 만들지 않고, 애플리케이션 전체에서 하나의 실행기를 공유합니다.
+ * - platform: 크기가 고정된 스레드 풀. 활성 스레드 수, 큐 적재 건수, 완료 건수(executor.*)를 메트릭으로 노출합니다.
+ * - virtual : 작업마다 가상 스레드를 생성(JDK 21 이상). 동시 실행 수는 스레드 수가 아니라 concurrency-limit로 제한합니다.
+ * 두 방식 모두 큐 대기 시간(inspection.executor.queue.wait)과 실행 중 작업 수(inspection.executor.in-flight)를 노출합니다.
+ */
+@Slf4j
+@Configuration
+public class InspectionExecutorConfig {
+
+    public static final String INSPECTION_EXECUTOR = "inspectionTaskExecutor";
+
+    // 실행 방식 (platform: 스레드 풀, virtual: 가상 스레드)
+    @Value("${batch.executor.type:platform}")
+    private String executorType;
+
+    // 기본 스레드 수 (비어 있으면 batch.multi-thread-count)
+    @Value("${batch.executor.core-size:${batch.multi-thread-count}}")
+    private int coreSize;
+
+    // 최대 스레드 수 (큐가 가득 찼을 때만 core-size 이상으로 늘어납니다)
+    @Value("${batch.executor.max-size:${batch.multi-thread-count}}")
+    private int maxSize;
+
+    // 대기 큐 크기
+    @Value("${batch.executor.queue-capacity:100}")
+    private int queueCapacity;
+
+    // 큐가 가득 찼을 때 처리 방식 (abort: 거절, caller-runs: 호출 스레드에서 실행, block: 자리가 날 때까지 대기)
+    @Value("${batch.executor.rejection-policy:abort}")
+    private String rejectionPolicy;
+
+    // virtual 모드에서 동시에 실행할 최대 검수 건수. 초과 제출은 자리가 날 때까지 대기합니다.
+    @Value("${batch.executor.virtual.concurrency-limit:${batch.dispatcher.max-in-flight:${batch.multi-thread-count}}}")
+    private int virtualConcurrencyLimit;
+
+    // 종료 시 진행 중인 검수를 기다리는 최대 시간(초)
+    @Value("${batch.executor.await-termination-seconds:30}")
+    private int awaitTerminationSeconds;
+
+    @Bean(name = INSPECTION_EXECUTOR)
+    public AsyncTaskExecutor inspectionTaskExecutor(MeterRegistry meterRegistry) {
+        Timer queueWaitTimer = Timer.builder("inspection.executor.queue.wait")
+                .description("검수 작업이 실행되기까지 대기한 시간")
+                .register(meterRegistry);
+        AtomicInteger inFlight = new AtomicInteger();
+        Gauge.builder("inspection.executor.in-flight", inFlight, AtomicInteger::get)
+                .description("실행 중인 검수 작업 수")
+                .register(meterRegistry);
+
+        // 제출 시각부터 실제 실행 시작까지를 대기 시간으로 기록합니다.
+        TaskDecorator taskDecorator = runnable -> {
+            long submittedAt = System.nanoTime();
+            return () -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                inFlight.incrementAndGet();
+                try {
+                    runnable.run();
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            };
+        };
+
+        if ("virtual".equalsIgnoreCase(executorType)) {
+            if (Runtime.version().feature() >= 21) {
+                return virtualThreadExecutor(taskDecorator);
+            }
+            log.warn("가상 스레드는 JDK 21 이상에서만 사용할 수 있습니다. (현재: {}) platform 스레드 풀로 실행합니다.",
+                    Runtime.version().feature());
+        }
+        return platformThreadExecutor(taskDecorator, meterRegistry);
+    }
+
+    private AsyncTaskExecutor virtualThreadExecutor(TaskDecorator taskDecorator) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("inspection-vt-");
+        executor.setVirtualThreads(true);
+        // 가상 스레드는 개수 제한이 없으므로 동시 실행 수를 직접 제한합니다. (AI/DB 커넥션 보호)
+        executor.setConcurrencyLimit(Math.max(1, virtualConcurrencyLimit));
+        executor.setTaskDecorator(taskDecorator);
+        executor.setTaskTerminationTimeout(TimeUnit.SECONDS.toMillis(awaitTerminationSeconds));
+        log.info("검수 실행기 생성 (virtual thread, 최대 동시 실행: {})", executor.getConcurrencyLimit());
+        return executor;
+    }
+
+    private AsyncTaskExecutor platformThreadExecutor(TaskDecorator taskDecorator, MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, coreSize));
+        executor.setMaxPoolSize(Math.max(Math.max(1, coreSize), maxSize));
+        executor.setQueueCapacity(Math.max(0, queueCapacity));
+        executor.setThreadNamePrefix("inspection-worker-");
+        executor.setRejectedExecutionHandler(rejectedExecutionHandler());
+        executor.setTaskDecorator(taskDecorator);
+        // 종료 시 남은 검수는 임대 만료 후 다른 노드가 회수합니다.
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        executor.initialize();
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), "inspection");
+        // 단계별 파이프라인에서는 AI 호출 단계 큐로 사용됩니다.
+        Gauge.builder("inspection.pipeline.queue", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("검수 파이프라인 단계별 대기 큐 적재 건수")
+                .tag("stage", "ai")
+                .register(meterRegistry);
+        log.info("검수 스레드 풀 생성 (core: {}, max: {}, queue: {}, rejection: {})",
+                executor.getCorePoolSize(), executor.getMaxPoolSize(), queueCapacity, rejectionPolicy);
+        return executor;
+    }
+
+    private RejectedExecutionHandler rejectedExecutionHandler() {
+        return switch (rejectionPolicy.toLowerCase()) {
+            case "caller-runs" -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case "block" -> new BlockingRejectedExecutionHandler();
+            default -> new ThreadPoolExecutor.AbortPolicy();
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package com.tikitaka.api.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 단계별 검수 파이프라인(batch.pipeline.staged-yn=Y)에서 사용하는 스레드 풀 설정입니다.
+ * - 다운로드 단계: 이미지 다운로드, 금칙어 조회 등 네트워크/DB 대기 위주의 작업
+ * - 이미지 단계: 이미지 분할, 흑백 WebP 변환 등 CPU 작업 (기본값: CPU 코어 수)
+ * - AI 호출 단계는 inspectionTaskExecutor를 사용합니다.
+ * 단계 사이의 큐는 크기가 제한되어 있고, 가득 차면 앞 단계 스레드가 대기하여 처리 속도를 맞춥니다.
+ * 단계별 큐 적재 건수는 inspection.pipeline.queue{stage=...}로 노출됩니다.
+ */
+@Slf4j
+@Configuration
+public class InspectionPipelineConfig {
+
+    public static final String DOWNLOAD_EXECUTOR = "inspectionDownloadExecutor";
+    public static final String IMAGE_EXECUTOR = "inspectionImageExecutor";
+
+    // 다운로드 단계 스레드 수
+    @Value("${batch.pipeline.download.threads:16}")
+    private int downloadThreads;
+
+    // 다운로드 단계 대기 큐 크기
+    @Value("${batch.pipeline.download.queue-capacity:100}")
+    private int downloadQueueCapacity;
+
+    // 이미지 단계 스레드 수 (0이면 CPU 코어 수)
+    @Value("${batch.pipeline.image.threads:0}")
+    private int imageThreads;
+
+    // 이미지 단계 대기 큐 크기
+    @Value("${batch.pipeline.image.queue-capacity:50}")
+    private int imageQueueCapacity;
+
+    @Value("${batch.executor.await-termination-seconds:30}")
+    private int awaitTerminationSeconds;
+
+    @Bean(name = DOWNLOAD_EXECUTOR)
+    public ThreadPoolTaskExecutor inspectionDownloadExecutor(MeterRegistry meterRegistry) {
+        return stageExecutor("download", downloadThreads, downloadQueueCapacity, meterRegistry);
+    }
+
+    @Bean(name = IMAGE_EXECUTOR)
+    public ThreadPoolTaskExecutor inspectionImageExecutor(MeterRegistry meterRegistry) {
+        int threads = imageThreads > 0 ? imageThreads : Runtime.getRuntime().availableProcessors();
+        return stageExecutor("image", threads, imageQueueCapacity, meterRegistry);
+    }
+
+    private ThreadPoolTaskExecutor stageExecutor(String stage, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, threads));
+        executor.setMaxPoolSize(Math.max(1, threads));
+        executor.setQueueCapacity(Math.max(1, queueCapacity));
+        executor.setThreadNamePrefix("inspection-" + stage + "-");
+        executor.setRejectedExecutionHandler(new BlockingRejectedExecutionHandler());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        executor.initialize();
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), "inspection." + stage);
+        Gauge.builder("inspection.pipeline.queue", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("검수 파이프라인 단계별 대기 큐 적재 건수")
+                .tags(Tags.of("stage", stage))
+                .register(meterRegistry);
+        log.info("검수 파이프라인 [{}] 단계 스레드 풀 생성 (threads: {}, queue: {})", stage, executor.getCorePoolSize(), queueCapacity);
+        return executor;
+    }
+}
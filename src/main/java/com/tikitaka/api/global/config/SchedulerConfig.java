@@ -1,7 +1,10 @@
 package com.tikitaka.api.global.config;
 
+import java.util.concurrent.Executor;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.SchedulingConfigurer;
@@ -11,13 +14,19 @@ import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 @Configuration
 @EnableScheduling
 @EnableAsync
-public class SchedulerConfig implements SchedulingConfigurer {
+public class SchedulerConfig implements SchedulingConfigurer, AsyncConfigurer {
 
     @Override
     public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
         taskRegistrar.setScheduler(taskScheduler());
     }
 
+    // 검수 전용 스레드 풀(inspectionTaskExecutor)이 추가되어도 @Async는 기존처럼 스케줄러 풀에서 실행합니다.
+    @Override
+    public Executor getAsyncExecutor() {
+        return taskScheduler();
+    }
+
     @Bean
     public ThreadPoolTaskScheduler taskScheduler() {
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
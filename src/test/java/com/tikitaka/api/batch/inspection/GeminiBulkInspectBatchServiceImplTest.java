@@ -0,0 +1,136 @@
+package com.tikitaka.api.batch.inspection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.tikitaka.api.batch.goods.entity.Goods;
+import com.tikitaka.api.batch.inspection.dto.BulkInspectionResult;
+import com.tikitaka.api.batch.inspection.dto.BulkJobStatus;
+import com.tikitaka.api.batch.inspection.dto.FileContent;
+import com.tikitaka.api.batch.inspection.dto.GeminiRequest;
+import com.tikitaka.api.batch.inspection.dto.InspectionResult;
+
+/**
+ * Gemini Batch Prediction 엔드포인트(resumable 업로드, 작업 생성/조회/취소, 결과 다운로드)를 스텁 서버로 대체하여
+ * 입력 JSONL 형식, 작업 상태 해석, key별 결과/오류 줄 변환을 검증합니다.
+ */
+class GeminiBulkInspectBatchServiceImplTest {
+
+    private StubAiServer server;
+    private GeminiBulkInspectBatchServiceImpl bulkInspectService;
+    private final AtomicReference<String> batchResource = new AtomicReference<>();
+    private final AtomicReference<String> resultFile = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new StubAiServer();
+        String baseUrl = server.baseUrl();
+
+        // 1차 요청은 업로드 URL을 발급하고, 2차 요청(upload_id)으로 파일 내용을 받습니다.
+        server.route("/upload/v1beta/files", request -> request.query() != null && request.query().contains("upload_id")
+                ? StubAiServer.Response.json("{\"file\":{\"name\":\"files/input-1\"}}")
+                : StubAiServer.Response.json("{}").withHeader("X-Goog-Upload-URL", baseUrl + "/upload/v1beta/files?upload_id=1"));
+        server.route("/v1beta/models/", request ->
+                StubAiServer.Response.json("{\"name\":\"batches/job-1\",\"metadata\":{\"state\":\"BATCH_STATE_PENDING\"}}"));
+        server.route("/v1beta/batches/", request -> StubAiServer.Response.json(
+                request.path().endsWith(":cancel") ? "{}" : batchResource.get()));
+        server.route("/download/v1beta/files/", request -> StubAiServer.Response.json(resultFile.get()));
+
+        GeminiInspectBatchServiceImpl geminiInspectService = mock(GeminiInspectBatchServiceImpl.class);
+        when(geminiInspectService.buildGeminiRequest(any(), any(), any())).thenReturn(new GeminiRequest(
+                List.of(new GeminiRequest.Content(List.of(new GeminiRequest.Part("prompt")))), List.of()));
+        when(geminiInspectService.toInspectionResult(any())).thenReturn(InspectionResult.approve("gemini-batch-test"));
+
+        bulkInspectService = new GeminiBulkInspectBatchServiceImpl(WebClient.builder(),
+                Jackson2ObjectMapperBuilder.json().build(), geminiInspectService, "test-key", baseUrl, "gemini-batch-test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void submitUploadsKeyedRequestLinesAndCreatesBatchForBatchModel() throws IOException {
+        String jobName;
+        try (BulkInspectBatchService.BulkSubmission submission = bulkInspectService.newSubmission("test")) {
+            submission.add("1", new Goods(), List.<FileContent>of(), "금칙어");
+            submission.add("2", new Goods(), List.<FileContent>of(), "금칙어");
+            assertThat(submission.size()).isEqualTo(2);
+            jobName = submission.submit();
+        }
+
+        assertThat(jobName).isEqualTo("batches/job-1");
+        StubAiServer.Request upload = server.lastRequest("/upload/v1beta/files");
+        assertThat(upload.uploadCommand()).isEqualTo("upload, finalize");
+        assertThat(upload.body().lines().toList())
+                .hasSize(2)
+                .allSatisfy(line -> assertThat(line).contains("\"request\":{\"contents\""));
+        assertThat(upload.body()).contains("\"key\":\"1\"").contains("\"key\":\"2\"");
+
+        StubAiServer.Request create = server.lastRequest("/v1beta/models/");
+        assertThat(create.path()).isEqualTo("/v1beta/models/gemini-batch-test:batchGenerateContent");
+        assertThat(create.body()).contains("\"file_name\":\"files/input-1\"");
+        // 검수 결과 캐시 키는 실제로 검수한 일괄 처리 모델로 구분합니다.
+        assertThat(bulkInspectService.getInspectorId()).isEqualTo("gemini-batch-test");
+    }
+
+    @Test
+    void fetchResultsMapsResponseAndErrorLinesByKey() throws IOException {
+        resultFile.set(
+                "{\"key\":\"7\",\"response\":{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"승인\"}],\"role\":\"model\"}}]}}\n"
+              + "\n"
+              + "{\"key\":\"8\",\"error\":{\"code\":400,\"message\":\"Request payload size exceeds the limit\",\"status\":\"INVALID_ARGUMENT\"}}\n");
+
+        List<BulkInspectionResult> results = bulkInspectService.fetchResults(
+                BulkJobStatus.succeeded("batches/job-1", "files/output-1", null));
+
+        assertThat(server.lastRequest("/download/v1beta/files/").path()).isEqualTo("/download/v1beta/files/output-1:download");
+        assertThat(results).extracting(BulkInspectionResult::getKey).containsExactly("7", "8");
+        assertThat(results.get(0).getResult().isApproved()).isTrue();
+        assertThat(results.get(1).getResult()).isNull();
+        assertThat(results.get(1).getErrorMessage()).isEqualTo("Gemini 일괄 처리 오류: Request payload size exceeds the limit");
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', textBlock = """
+            {"name":"batches/job-1","metadata":{"state":"BATCH_STATE_RUNNING"}}                                          | RUNNING   |
+            {"name":"batches/job-1","metadata":{"state":"BATCH_STATE_SUCCEEDED"},"response":{"responsesFile":"files/o1"}} | SUCCEEDED | files/o1
+            {"name":"batches/job-1","state":"BATCH_STATE_SUCCEEDED","output":{"responsesFile":"files/o2"}}              | SUCCEEDED | files/o2
+            {"name":"batches/job-1","metadata":{"state":"BATCH_STATE_SUCCEEDED"}}                                        | FAILED    |
+            {"name":"batches/job-1","metadata":{"state":"BATCH_STATE_CANCELLED"},"error":{"message":"cancelled"}}        | FAILED    |
+            {"name":"batches/job-1","state":"BATCH_STATE_EXPIRED"}                                                        | FAILED    |
+            """)
+    void getJobStatusMapsOperationAndResourceStates(String resource, BulkJobStatus.State expectedState, String expectedOutput) {
+        batchResource.set(resource);
+
+        BulkJobStatus status = bulkInspectService.getJobStatus("batches/job-1");
+
+        assertThat(server.lastRequest("/v1beta/batches/").path()).isEqualTo("/v1beta/batches/job-1");
+        assertThat(status.getState()).isEqualTo(expectedState);
+        assertThat(status.getOutputRef()).isEqualTo(expectedOutput);
+    }
+
+    @Test
+    void cancelJobPostsCancelForJobResource() {
+        bulkInspectService.cancelJob("batches/job-1");
+
+        StubAiServer.Request cancel = server.lastRequest("/v1beta/batches/");
+        assertThat(cancel.method()).isEqualTo("POST");
+        assertThat(cancel.path()).isEqualTo("/v1beta/batches/job-1:cancel");
+    }
+}
@@ -0,0 +1,154 @@
+package com.tikitaka.api.batch.inspection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.tikitaka.api.batch.goods.entity.Goods;
+import com.tikitaka.api.batch.inspection.dto.BulkInspectionResult;
+import com.tikitaka.api.batch.inspection.dto.BulkJobStatus;
+import com.tikitaka.api.batch.inspection.dto.FileContent;
+import com.tikitaka.api.batch.inspection.dto.InspectionResult;
+
+/**
+ * OpenAI Batch API 엔드포인트(파일 업로드/내용 조회, 작업 생성/조회/취소)를 스텁 서버로 대체하여
+ * 입력 JSONL 형식, 작업 상태 해석, 결과 파일과 오류 파일의 custom_id별 변환을 검증합니다.
+ */
+class OpenAiBulkInspectBatchServiceImplTest {
+
+    private StubAiServer server;
+    private OpenAiBulkInspectBatchServiceImpl bulkInspectService;
+    private final AtomicReference<String> batchResource = new AtomicReference<>();
+    private final Map<String, String> fileContents = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new StubAiServer();
+
+        // 업로드(POST /v1/files)와 파일 내용 조회(GET /v1/files/{id}/content)가 같은 경로 접두어로 들어옵니다.
+        server.route("/v1/files", request -> {
+            if (request.path().endsWith("/content")) {
+                String fileId = request.path().substring("/v1/files/".length(), request.path().length() - "/content".length());
+                return StubAiServer.Response.json(fileContents.getOrDefault(fileId, ""));
+            }
+            return StubAiServer.Response.json("{\"id\":\"file-input\",\"purpose\":\"batch\"}");
+        });
+        server.route("/v1/batches", request -> {
+            if ("GET".equals(request.method())) {
+                return StubAiServer.Response.json(batchResource.get());
+            }
+            return StubAiServer.Response.json(request.path().endsWith("/cancel")
+                    ? "{\"id\":\"batch_1\",\"status\":\"cancelling\"}"
+                    : "{\"id\":\"batch_1\",\"status\":\"validating\"}");
+        });
+
+        ChatGPTInspectBatchServiceImpl chatGptInspectService = mock(ChatGPTInspectBatchServiceImpl.class);
+        when(chatGptInspectService.buildChatGptRequest(any(), any(), any()))
+                .thenReturn(new ChatGPTInspectBatchServiceImpl.ChatGPTRequest("gpt-test", List.of()));
+        when(chatGptInspectService.toInspectionResult(any())).thenReturn(InspectionResult.approve("gpt-test"));
+
+        bulkInspectService = new OpenAiBulkInspectBatchServiceImpl(WebClient.builder(),
+                Jackson2ObjectMapperBuilder.json().build(), chatGptInspectService, "test-key", server.baseUrl(), "24h");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void submitUploadsChatCompletionLinesAndCreatesBatch() throws IOException {
+        String batchId;
+        try (BulkInspectBatchService.BulkSubmission submission = bulkInspectService.newSubmission("test")) {
+            submission.add("1", new Goods(), List.<FileContent>of(), "금칙어");
+            submission.add("2", new Goods(), List.<FileContent>of(), "금칙어");
+            batchId = submission.submit();
+        }
+
+        assertThat(batchId).isEqualTo("batch_1");
+        StubAiServer.Request upload = server.lastRequest("/v1/files");
+        assertThat(upload.authorization()).isEqualTo("Bearer test-key");
+        assertThat(upload.body())
+                .contains("name=\"purpose\"")
+                .contains("\"custom_id\":\"1\"")
+                .contains("\"custom_id\":\"2\"")
+                .contains("\"method\":\"POST\"")
+                .contains("\"url\":\"/v1/chat/completions\"");
+
+        StubAiServer.Request create = server.lastRequest("/v1/batches");
+        assertThat(create.authorization()).isEqualTo("Bearer test-key");
+        assertThat(create.body())
+                .contains("\"input_file_id\":\"file-input\"")
+                .contains("\"endpoint\":\"/v1/chat/completions\"")
+                .contains("\"completion_window\":\"24h\"");
+    }
+
+    @Test
+    void fetchResultsReadsOutputAndErrorFiles() throws IOException {
+        fileContents.put("file-output",
+                "{\"id\":\"r1\",\"custom_id\":\"11\",\"response\":{\"status_code\":200,"
+              + "\"body\":{\"choices\":[{\"message\":{\"content\":\"승인\"}}]}},\"error\":null}\n");
+        // 오류 파일에는 HTTP 오류 응답 줄과, 응답 없이 error만 있는 줄(기한 만료 등)이 섞여 있습니다.
+        fileContents.put("file-error",
+                "{\"id\":\"r2\",\"custom_id\":\"12\",\"response\":{\"status_code\":400,"
+              + "\"body\":{\"error\":{\"message\":\"Invalid image URL\"}}},\"error\":null}\n"
+              + "{\"id\":\"r3\",\"custom_id\":\"13\",\"response\":null,"
+              + "\"error\":{\"code\":\"batch_expired\",\"message\":\"This request could not be executed before the completion window expired.\"}}\n");
+
+        List<BulkInspectionResult> results = bulkInspectService.fetchResults(
+                BulkJobStatus.succeeded("batch_1", "file-output", "file-error"));
+
+        assertThat(results).extracting(BulkInspectionResult::getKey).containsExactly("11", "12", "13");
+        assertThat(results.get(0).getResult().isApproved()).isTrue();
+        assertThat(results.get(1).getResult()).isNull();
+        assertThat(results.get(1).getErrorMessage()).isEqualTo("OpenAI 일괄 처리 오류: Invalid image URL");
+        assertThat(results.get(2).getResult()).isNull();
+        assertThat(results.get(2).getErrorMessage()).contains("completion window expired");
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', textBlock = """
+            {"id":"batch_1","status":"in_progress"}                                                               | RUNNING   |             |
+            {"id":"batch_1","status":"finalizing"}                                                                | RUNNING   |             |
+            {"id":"batch_1","status":"completed","output_file_id":"file-output","error_file_id":null}             | SUCCEEDED | file-output |
+            {"id":"batch_1","status":"completed","output_file_id":null,"error_file_id":"file-error"}              | SUCCEEDED |             | file-error
+            {"id":"batch_1","status":"completed","output_file_id":null,"error_file_id":null}                      | FAILED    |             |
+            {"id":"batch_1","status":"expired","errors":{"data":[{"message":"window expired"}]}}                  | FAILED    |             |
+            {"id":"batch_1","status":"cancelled"}                                                                  | FAILED    |             |
+            """)
+    void getJobStatusMapsBatchStatus(String resource, BulkJobStatus.State expectedState, String expectedOutput, String expectedError) {
+        batchResource.set(resource);
+
+        BulkJobStatus status = bulkInspectService.getJobStatus("batch_1");
+
+        assertThat(server.lastRequest("/v1/batches").path()).isEqualTo("/v1/batches/batch_1");
+        assertThat(status.getState()).isEqualTo(expectedState);
+        assertThat(status.getOutputRef()).isEqualTo(expectedOutput);
+        assertThat(status.getErrorRef()).isEqualTo(expectedError);
+    }
+
+    @Test
+    void cancelJobPostsCancelForBatch() {
+        bulkInspectService.cancelJob("batch_1");
+
+        StubAiServer.Request cancel = server.lastRequest("/v1/batches");
+        assertThat(cancel.method()).isEqualTo("POST");
+        assertThat(cancel.path()).isEqualTo("/v1/batches/batch_1/cancel");
+        assertThat(cancel.authorization()).isEqualTo("Bearer test-key");
+    }
+}
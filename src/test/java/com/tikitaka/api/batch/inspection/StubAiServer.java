@@ -0,0 +1,94 @@
+package com.tikitaka.api.batch.inspection;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * AI 제공자 API를 대신하는 테스트용 로컬 HTTP 서버입니다.
+ * 경로 접두어별로 응답을 지정하고, 받은 요청(메서드, 경로, 헤더, 본문)을 기록해 검증에 사용합니다.
+ */
+final class StubAiServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+
+    StubAiServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * @param pathPrefix 응답할 요청 경로 접두어 (가장 길게 일치하는 접두어의 handler가 응답)
+     * @param handler 받은 요청으로 응답을 만드는 함수
+     */
+    void route(String pathPrefix, Function<Request, Response> handler) {
+        server.createContext(pathPrefix, exchange -> {
+            Request request = new Request(exchange.getRequestMethod(), exchange.getRequestURI().getPath(),
+                    exchange.getRequestURI().getRawQuery(), exchange.getRequestHeaders().getFirst("Authorization"),
+                    exchange.getRequestHeaders().getFirst("X-Goog-Upload-Command"),
+                    new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            requests.add(request);
+            respond(exchange, handler.apply(request));
+        });
+    }
+
+    /**
+     * @return 경로가 pathPrefix로 시작하는 마지막 요청
+     */
+    Request lastRequest(String pathPrefix) {
+        for (int i = requests.size() - 1; i >= 0; i--) {
+            if (requests.get(i).path().startsWith(pathPrefix)) {
+                return requests.get(i);
+            }
+        }
+        throw new AssertionError("받은 요청이 없습니다: " + pathPrefix);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static void respond(HttpExchange exchange, Response response) throws IOException {
+        byte[] bytes = response.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        response.headers().forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+        exchange.sendResponseHeaders(response.status(), bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    /**
+     * @param uploadCommand Gemini resumable upload의 X-Goog-Upload-Command 헤더
+     */
+    record Request(String method, String path, String query, String authorization, String uploadCommand, String body) {
+    }
+
+    record Response(int status, String body, Map<String, String> headers) {
+
+        static Response json(String body) {
+            return new Response(200, body, Map.of());
+        }
+
+        Response withHeader(String name, String value) {
+            Map<String, String> merged = new LinkedHashMap<>(headers);
+            merged.put(name, value);
+            return new Response(status, body, merged);
+        }
+    }
+}